@@ -0,0 +1,63 @@
+package app.auth.service;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import app.auth.model.entity.KeyEntry;
+
+/**
+ * JWKS 응답과 키 교체 비용. jwksCached 는 평소 /oauth/jwks 요청, jwksRegenerate 는 교체 직후 첫 요청(키 수만큼 JWK 변환)이다.
+ * rotateKey 는 RSA-2048 키 생성이 대부분이며 실행할 때마다 키링이 커지므로 반복 횟수를 작게 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtKeyManagerBenchmark {
+
+	@Param({"1", "5"})
+	private int keyCount;
+
+	private JwtKeyManager jwtKeyManager;
+	private Field cachedJwks;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		jwtKeyManager = new JwtKeyManager(false, "", Optional.empty());
+		jwtKeyManager.init();
+		for (int i = 1; i < keyCount; i++) {
+			jwtKeyManager.rotateKey();
+		}
+		cachedJwks = JwtKeyManager.class.getDeclaredField("cachedJwks");
+		cachedJwks.setAccessible(true);
+	}
+
+	@Benchmark
+	public Map<String, List<Map<String, Object>>> jwksCached() {
+		return jwtKeyManager.getJwks();
+	}
+
+	@Benchmark
+	public Map<String, List<Map<String, Object>>> jwksRegenerate() throws IllegalAccessException {
+		cachedJwks.set(jwtKeyManager, null);
+		return jwtKeyManager.getJwks();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public KeyEntry rotateKey() {
+		return jwtKeyManager.rotateKey();
+	}
+}
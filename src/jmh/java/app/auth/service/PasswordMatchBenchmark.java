@@ -0,0 +1,45 @@
+package app.auth.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 로그인 한 번의 비밀번호 확인 비용. SecurityConfig 의 BCryptPasswordEncoder 기본 strength 는 10 이다.
+ * BCrypt 는 일치 여부와 관계없이 같은 비용이 들어야 하므로 mismatch 도 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordMatchBenchmark {
+
+	@Param({"10"})
+	private int strength;
+
+	private BCryptPasswordEncoder passwordEncoder;
+	private String encoded;
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = new BCryptPasswordEncoder(strength);
+		encoded = passwordEncoder.encode("benchmark-password");
+	}
+
+	@Benchmark
+	public boolean match() {
+		return passwordEncoder.matches("benchmark-password", encoded);
+	}
+
+	@Benchmark
+	public boolean mismatch() {
+		return passwordEncoder.matches("wrong-password", encoded);
+	}
+}
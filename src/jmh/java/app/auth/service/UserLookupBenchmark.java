@@ -0,0 +1,83 @@
+package app.auth.service;
+
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.response.UserSummaryResponse;
+import app.auth.model.entity.enums.UserRole;
+import app.auth.model.repository.UserRepository;
+import app.global.metrics.AuthMetrics;
+
+/**
+ * 10k 개 ID 일괄 조회 한 번의 서비스 측 비용(중복 제거, 캐시, chunk 분할, JSON Lines 직렬화).
+ * 리포지토리는 메모리에서 바로 돌려주는 대역이라 DB 왕복은 포함되지 않으며, 실제 비용은 여기에 chunk 수만큼의 IN 쿼리가 더해진다.
+ * cacheTtl=PT0S 는 매번 모든 ID 가 miss 인 경우, PT1M 은 반복 조회가 캐시로 끝나는 경우다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserLookupBenchmark {
+
+	@Param({"10000"})
+	private int lookupSize;
+
+	@Param({"500"})
+	private int chunkSize;
+
+	@Param({"PT0S", "PT1M"})
+	private String cacheTtl;
+
+	private UserLookupService userLookupService;
+	private List<Long> userIds;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		userLookupService = new UserLookupService(inMemoryRepository(), new ObjectMapper(), AuthMetrics.detached());
+		setField("maxLookupSize", lookupSize);
+		setField("chunkSize", chunkSize);
+		setField("cacheTtl", Duration.parse(cacheTtl));
+		setField("cacheMaxEntries", lookupSize * 2);
+		userIds = LongStream.rangeClosed(1, lookupSize).boxed().toList();
+	}
+
+	@Benchmark
+	public void lookup() throws Exception {
+		userLookupService.writeLookup(userIds, OutputStream.nullOutputStream());
+	}
+
+	private void setField(String name, Object value) throws ReflectiveOperationException {
+		Field field = UserLookupService.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(userLookupService, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static UserRepository inMemoryRepository() {
+		return (UserRepository)Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+			new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+				if (!method.getName().equals("findByUserIdIn")) {
+					throw new UnsupportedOperationException(method.getName());
+				}
+				return ((Collection<Long>)args[0]).stream()
+					.map(userId -> new UserSummaryResponse(userId, "user" + userId, UserRole.CUSTOMER))
+					.toList();
+			});
+	}
+}
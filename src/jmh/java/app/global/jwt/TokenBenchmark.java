@@ -0,0 +1,146 @@
+package app.global.jwt;
+
+import java.lang.reflect.Field;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import app.auth.service.JwtKeyManager;
+import app.global.metrics.AuthMetrics;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kms.KmsClient;
+import software.amazon.awssdk.services.kms.model.SignRequest;
+import software.amazon.awssdk.services.kms.model.SignResponse;
+import software.amazon.awssdk.services.kms.model.SigningAlgorithmSpec;
+
+/**
+ * 토큰 발급과 검증 한 번의 비용. 서명은 RSA-2048 개인키 연산이 대부분이고 검증은 공개키 연산이라 훨씬 싸다.
+ * kmsAccessToken 은 KMS 호출 대신 같은 키로 로컬에서 서명하는 대역을 쓰므로 네트워크 왕복을 뺀 클라이언트 측 비용(다이제스트, 요청 빌드, 직렬화)만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenBenchmark {
+
+	/**
+	 * RSASSA-PKCS1-v1_5 의 SHA-256 DigestInfo 접두부. KMS 가 DIGEST 메시지에 붙이는 것과 같다.
+	 */
+	private static final byte[] SHA256_DIGEST_INFO = HexFormat.of().parseHex("3031300d060960864801650304020105000420");
+
+	private JwtKeyManager jwtKeyManager;
+	private LocalTokenProvider localTokenProvider;
+	private JwtTokenProvider jwtTokenProvider;
+	private KmsTokenProvider kmsTokenProvider;
+	private KeyringJwtDecoder keyringJwtDecoder;
+	private String accessToken;
+	private String internalToken;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		jwtKeyManager = new JwtKeyManager(false, "", Optional.empty());
+		jwtKeyManager.init();
+
+		localTokenProvider = new LocalTokenProvider(jwtKeyManager);
+		setField(localTokenProvider, "accessTokenValidityMs", 300_000L);
+		setField(localTokenProvider, "refreshTokenValidityMs", 604_800_000L);
+
+		jwtTokenProvider = new JwtTokenProvider(jwtKeyManager);
+		setField(jwtTokenProvider, "internalTokenValidityMs", 600_000L);
+		setField(jwtTokenProvider, "refreshTokenValidityMs", 604_800_000L);
+
+		KmsClient kms = localKms(jwtKeyManager.getActiveKey().keyPair().getPrivate());
+		String kid = jwtKeyManager.getActiveKid();
+		KmsRegionRouter.Region region = new KmsRegionRouter.Region("local", kid, kms,
+			new KmsRsaSigner(kms, kid, SigningAlgorithmSpec.RSASSA_PKCS1_V1_5_SHA_256, AuthMetrics.detached(), "local"));
+		region.publish(new KmsRegionRouter.PublishedKey(kid, jwtKeyManager.getActivePublicKey()));
+		kmsTokenProvider = new KmsTokenProvider(new KmsRegionRouter(List.of(region), 0.2, Duration.ofSeconds(30),
+			new SimpleMeterRegistry()));
+		setField(kmsTokenProvider, "issuer", "https://auth.benchmark");
+		setField(kmsTokenProvider, "accessValiditySec", 900L);
+		setField(kmsTokenProvider, "refreshValidityMs", 604_800_000L);
+
+		keyringJwtDecoder = new KeyringJwtDecoder(jwtKeyManager);
+		accessToken = localTokenProvider.createAccessToken("42", "CUSTOMER");
+		internalToken = jwtTokenProvider.createInternalToken("benchmark", "42", "CUSTOMER", Instant.now());
+	}
+
+	@Benchmark
+	public String localAccessToken() {
+		return localTokenProvider.createAccessToken("42", "CUSTOMER");
+	}
+
+	@Benchmark
+	public String internalToken() {
+		return jwtTokenProvider.createInternalToken("benchmark", "42", "CUSTOMER");
+	}
+
+	@Benchmark
+	public Claims parseInternalToken() {
+		return jwtTokenProvider.parseClaims(internalToken);
+	}
+
+	@Benchmark
+	public String kmsAccessToken() {
+		return kmsTokenProvider.createAccessToken("42", "CUSTOMER");
+	}
+
+	@Benchmark
+	public Jwt keyringDecode() {
+		return keyringJwtDecoder.decode(accessToken);
+	}
+
+	private static KmsClient localKms(PrivateKey privateKey) {
+		return new KmsClient() {
+			@Override
+			public SignResponse sign(SignRequest request) {
+				try {
+					byte[] digest = request.message().asByteArray();
+					byte[] digestInfo = new byte[SHA256_DIGEST_INFO.length + digest.length];
+					System.arraycopy(SHA256_DIGEST_INFO, 0, digestInfo, 0, SHA256_DIGEST_INFO.length);
+					System.arraycopy(digest, 0, digestInfo, SHA256_DIGEST_INFO.length, digest.length);
+					Signature signature = Signature.getInstance("NONEwithRSA");
+					signature.initSign(privateKey);
+					signature.update(digestInfo);
+					return SignResponse.builder()
+						.keyId(request.keyId())
+						.signature(SdkBytes.fromByteArray(signature.sign()))
+						.build();
+				} catch (GeneralSecurityException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+
+			@Override
+			public String serviceName() {
+				return KmsClient.SERVICE_NAME;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+		Field field = target.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(target, value);
+	}
+}
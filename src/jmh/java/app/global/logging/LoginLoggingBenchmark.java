@@ -0,0 +1,128 @@
+package app.global.logging;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import app.global.util.PiiMasker;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+
+/**
+ * 로그인 한 번이 남기는 로그(AuthController 2줄, AuthService DEBUG 2줄 + INFO 1줄)를 prod 설정(LogstashEncoder, INFO)으로 기록할 때의 처리량.
+ * sync 는 기존 ConsoleAppender 경로, async 는 logback-spring.xml 의 {@link MeteredAsyncAppender} 경로다.
+ * sinkLatencyMicros 는 stdout 파이프가 느려졌을 때(컨테이너 로그 드라이버 지연 등) 한 번의 flush 가 걸리는 시간을 흉내 낸다.
+ * async 결과에는 버린 이벤트 수가 함께 출력되므로 처리량과 유실을 같이 봐야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class LoginLoggingBenchmark {
+
+	@Param({"sync", "async"})
+	private String pipeline;
+
+	@Param({"0", "50"})
+	private long sinkLatencyMicros;
+
+	private LoggerContext context;
+	private Logger controllerLog;
+	private Logger serviceLog;
+	private MeteredAsyncAppender asyncAppender;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new LoggerContext();
+
+		LogstashEncoder encoder = new LogstashEncoder();
+		encoder.setContext(context);
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+		console.setContext(context);
+		console.setName("CONSOLE_JSON");
+		console.setEncoder(encoder);
+		console.setOutputStream(new SlowSink(TimeUnit.MICROSECONDS.toNanos(sinkLatencyMicros)));
+		console.start();
+
+		Appender<ILoggingEvent> appender = console;
+		if ("async".equals(pipeline)) {
+			asyncAppender = new MeteredAsyncAppender();
+			asyncAppender.setContext(context);
+			asyncAppender.setName("ASYNC_CONSOLE_JSON");
+			asyncAppender.setQueueSize(8192);
+			asyncAppender.addAppender(console);
+			asyncAppender.start();
+			appender = asyncAppender;
+		}
+
+		Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+		root.setLevel(ch.qos.logback.classic.Level.INFO);
+		root.addAppender(appender);
+		controllerLog = context.getLogger("app.auth.controller.AuthController");
+		serviceLog = context.getLogger("app.auth.service.AuthService");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (asyncAppender != null) {
+			System.out.printf("%n[%s] dropped events: %d%n", pipeline, asyncAppender.getDroppedCount());
+		}
+		context.stop();
+	}
+
+	@Benchmark
+	public void login() {
+		String username = "user@example.com";
+		controllerLog.info("Login attempt for user: {}", PiiMasker.lazy(username));
+		serviceLog.debug("로그인 요청 수신 - username: {}", PiiMasker.lazy(username));
+		serviceLog.debug("Redis에 refresh token 저장 완료 - userId: {}", 42L);
+		serviceLog.info("로그인 성공 - userId: {}, role: {}", 42L, List.of("ROLE_CUSTOMER"));
+		controllerLog.info("User '{}' logged in successfully.", PiiMasker.lazy(username));
+	}
+
+	/**
+	 * 바이트는 버리고, flush 마다 지정한 시간만큼 멈춘다.
+	 */
+	private static final class SlowSink extends OutputStream {
+
+		private final long flushNanos;
+
+		private SlowSink(long flushNanos) {
+			this.flushNanos = flushNanos;
+		}
+
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+
+		@Override
+		public void flush() {
+			if (flushNanos > 0) {
+				LockSupport.parkNanos(flushNanos);
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package app.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 마스킹 한 번의 비용. legacySha256 은 이전 구현(호출마다 MessageDigest.getInstance)이다.
+ * disabledDebugLazy/disabledDebugEager 는 꺼진 레벨(logback 기본 설정은 DEBUG 이므로 TRACE)에 인자를 넘길 때 lazy 인자로 마스킹을 건너뛰는 효과를 본다.
+ * usernames 개수가 memo 크기보다 크면 memo 적중률이 떨어지므로 distinctValues 로 조절한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PiiMaskerBenchmark {
+
+	private static final Logger log = LoggerFactory.getLogger(PiiMaskerBenchmark.class);
+
+	@Param({"dev", "prod"})
+	private String profile;
+
+	@Param({"0", "1024"})
+	private int memoSize;
+
+	@Param({"64", "100000"})
+	private int distinctValues;
+
+	private String[] usernames;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		PiiMasker.configure(profile, "benchmark-salt", memoSize);
+		usernames = new String[distinctValues];
+		for (int i = 0; i < distinctValues; i++) {
+			usernames[i] = "user" + i + "@example.com";
+		}
+	}
+
+	private String nextUsername() {
+		String username = usernames[next];
+		next = next + 1 == usernames.length ? 0 : next + 1;
+		return username;
+	}
+
+	@Benchmark
+	public String mask() {
+		return PiiMasker.mask(nextUsername());
+	}
+
+	@Benchmark
+	public String legacySha256() throws NoSuchAlgorithmException {
+		MessageDigest md = MessageDigest.getInstance("SHA-256");
+		md.update("benchmark-salt".getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(md.digest(nextUsername().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Benchmark
+	public void disabledDebugEager() {
+		log.trace("로그인 요청 수신 - username: {}", PiiMasker.mask(nextUsername()));
+	}
+
+	@Benchmark
+	public void disabledDebugLazy() {
+		log.trace("로그인 요청 수신 - username: {}", PiiMasker.lazy(nextUsername()));
+	}
+}
@@ -0,0 +1,22 @@
+package app.loadtest;
+
+/**
+ * 결과를 나누어 집계하는 단위. login_invalid 는 같은 /auth/login 이지만 실패가 정상인 요청이라 따로 센다.
+ */
+enum Endpoint {
+	LOGIN("login"),
+	LOGIN_INVALID("login_invalid"),
+	LOGOUT("logout"),
+	OAUTH2_TOKEN("oauth2_token"),
+	JWKS("jwks");
+
+	private final String label;
+
+	Endpoint(String label) {
+		this.label = label;
+	}
+
+	String label() {
+		return label;
+	}
+}
@@ -0,0 +1,92 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 하나의 결과. 지연 시간은 요청이 실제로 나간 시각이 아니라 도착 예정 시각부터 잰다.
+ * 그래서 서버가 밀려 전송이 늦어진 시간도 지연에 들어간다(coordinated omission 보정).
+ */
+final class EndpointStats {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final Endpoint endpoint;
+	private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+	private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+	private final LongAdder transportErrors = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	EndpointStats(Endpoint endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	void recordResponse(int status, long latencyNanos) {
+		latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+		statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+	}
+
+	void recordTransportError(long latencyNanos) {
+		latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+		transportErrors.increment();
+	}
+
+	void recordDropped() {
+		dropped.increment();
+	}
+
+	void reset() {
+		latencyMicros.reset();
+		statuses.clear();
+		transportErrors.reset();
+		dropped.reset();
+	}
+
+	boolean isEmpty() {
+		return completed() == 0 && dropped.sum() == 0;
+	}
+
+	long completed() {
+		return latencyMicros.getTotalCount();
+	}
+
+	void printSummary(PrintStream out, double seconds) {
+		Map<Integer, Long> byStatus = new TreeMap<>();
+		statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+		out.printf("%-14s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  errors=%d dropped=%d statuses=%s%n",
+			endpoint.label(), completed(), completed() / seconds,
+			millis(latencyMicros.getValueAtPercentile(50)), millis(latencyMicros.getValueAtPercentile(90)),
+			millis(latencyMicros.getValueAtPercentile(99)), millis(latencyMicros.getValueAtPercentile(99.9)),
+			millis(latencyMicros.getMaxValue()), transportErrors.sum(), dropped.sum(), byStatus);
+	}
+
+	/**
+	 * HdrHistogram 백분위 분포(.hgrm). HdrHistogram 플로터 등으로 그래프를 그릴 수 있다.
+	 */
+	void writeDistribution(Path directory, String prefix) throws IOException {
+		Files.createDirectories(directory);
+		try (PrintStream out = new PrintStream(
+			Files.newOutputStream(directory.resolve(prefix + "-" + endpoint.label() + ".hgrm")))) {
+			latencyMicros.outputPercentileDistribution(out, 1000.0);
+		}
+	}
+
+	static void printHeader(PrintStream out) {
+		out.printf("%-14s %8s %9s %9s %9s %9s %9s %9s%n", "endpoint", "count", "req/s", "p50 ms", "p90 ms", "p99 ms",
+			"p99.9 ms", "max ms");
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
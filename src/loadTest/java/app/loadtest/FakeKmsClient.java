@@ -0,0 +1,101 @@
+package app.loadtest;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.locks.LockSupport;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kms.KmsClient;
+import software.amazon.awssdk.services.kms.model.GetPublicKeyRequest;
+import software.amazon.awssdk.services.kms.model.GetPublicKeyResponse;
+import software.amazon.awssdk.services.kms.model.MessageType;
+import software.amazon.awssdk.services.kms.model.NotFoundException;
+import software.amazon.awssdk.services.kms.model.SignRequest;
+import software.amazon.awssdk.services.kms.model.SignResponse;
+import software.amazon.awssdk.services.kms.model.SigningAlgorithmSpec;
+
+/**
+ * 메모리의 RSA-2048 키 하나로 GetPublicKey 와 Sign(RSASSA_PKCS1_V1_5_SHA_256, DIGEST) 에 답한다.
+ * latency 만큼 호출마다 기다려 KMS 왕복을 흉내 낸다. 나머지 API 는 KmsClient 기본 구현대로 UnsupportedOperationException 이다.
+ */
+public class FakeKmsClient implements KmsClient {
+
+	public static final String KEY_ID = "loadtest-key";
+
+	private static final byte[] SHA256_DIGEST_INFO = HexFormat.of().parseHex("3031300d060960864801650304020105000420");
+
+	private final KeyPair keyPair;
+	private final Duration latency;
+
+	public FakeKmsClient(Duration latency) {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			this.keyPair = generator.generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+		this.latency = latency;
+	}
+
+	@Override
+	public GetPublicKeyResponse getPublicKey(GetPublicKeyRequest request) {
+		requireKey(request.keyId());
+		simulateLatency();
+		return GetPublicKeyResponse.builder()
+			.keyId(KEY_ID)
+			.publicKey(SdkBytes.fromByteArray(keyPair.getPublic().getEncoded()))
+			.build();
+	}
+
+	@Override
+	public SignResponse sign(SignRequest request) {
+		requireKey(request.keyId());
+		if (request.signingAlgorithm() != SigningAlgorithmSpec.RSASSA_PKCS1_V1_5_SHA_256
+			|| request.messageType() != MessageType.DIGEST) {
+			throw new UnsupportedOperationException("Only RSASSA_PKCS1_V1_5_SHA_256 over a digest is supported");
+		}
+		simulateLatency();
+		byte[] digest = request.message().asByteArray();
+		byte[] digestInfo = new byte[SHA256_DIGEST_INFO.length + digest.length];
+		System.arraycopy(SHA256_DIGEST_INFO, 0, digestInfo, 0, SHA256_DIGEST_INFO.length);
+		System.arraycopy(digest, 0, digestInfo, SHA256_DIGEST_INFO.length, digest.length);
+		try {
+			Signature signature = Signature.getInstance("NONEwithRSA");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(digestInfo);
+			return SignResponse.builder()
+				.keyId(KEY_ID)
+				.signingAlgorithm(request.signingAlgorithm())
+				.signature(SdkBytes.fromByteArray(signature.sign()))
+				.build();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public String serviceName() {
+		return SERVICE_NAME;
+	}
+
+	@Override
+	public void close() {
+	}
+
+	private static void requireKey(String keyId) {
+		if (!KEY_ID.equals(keyId)) {
+			throw NotFoundException.builder().message("Unknown key: " + keyId).build();
+		}
+	}
+
+	private void simulateLatency() {
+		if (!latency.isZero()) {
+			LockSupport.parkNanos(latency.toNanos());
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package app.loadtest;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import software.amazon.awssdk.services.kms.KmsClient;
+
+/**
+ * prod 프로필로 부하 테스트를 돌릴 때 AWS KMS 대신 쓰는 대역. loadTest 소스셋에만 있으므로 실제 배포에는 들어가지 않는다.
+ * load.kms-regions 를 주면 이 대역 대신 리전별 {@link LocalKmsServer} 로 실제 SDK 클라이언트가 붙는다.
+ */
+@Configuration
+@Profile("prod")
+@ConditionalOnExpression("'${load.kms-regions:}'.isEmpty()")
+public class FakeKmsConfiguration {
+
+	@Bean
+	@Primary
+	public KmsClient fakeKmsClient(@Value("${load.kms-latency:PT0S}") Duration latency) {
+		return new FakeKmsClient(latency);
+	}
+}
@@ -0,0 +1,156 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import app.AuthApplication;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 Postgres, Redis 컨테이너를 띄우고 그 위에 애플리케이션을 같은 JVM 에서 기동한다.
+ * prod 프로필이면 KMS 는 {@link FakeKmsClient} 가, load.kms-regions 가 있으면 리전별 {@link LocalKmsServer} 가 대신한다.
+ * Eureka 등록은 끈다.
+ */
+@Slf4j
+final class LoadTestEnvironment implements AutoCloseable {
+
+	static final String USERNAME_PREFIX = "load_user_";
+	static final String PASSWORD = "load-password";
+	static final String CLIENT_ID = "load-client";
+	static final String CLIENT_SECRET = "load-client-secret";
+
+	private static final String SEED_USERS = """
+		INSERT INTO p_user (username, email, password, nickname, real_name, phone_number, user_role, created_at, updated_at)
+		SELECT 'load_user_' || i, 'load_user_' || i || '@example.com', ?, 'load_nick_' || i, 'Load User', 'load-' || i,
+		       'CUSTOMER', now(), now()
+		FROM generate_series(1, ?) AS i
+		""";
+
+	private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+	private final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+	private final List<LocalKmsServer> kmsServers = new ArrayList<>();
+	private ConfigurableApplicationContext context;
+
+	static LoadTestEnvironment start(LoadTestOptions options) {
+		LoadTestEnvironment environment = new LoadTestEnvironment();
+		try {
+			environment.boot(options);
+			return environment;
+		} catch (RuntimeException e) {
+			environment.close();
+			throw e;
+		}
+	}
+
+	private void boot(LoadTestOptions options) {
+		postgres.start();
+		redis.start();
+
+		// 명령행 인자는 환경 변수나 .env 보다 우선하므로 실행 환경의 값이 섞이지 않는다.
+		Map<String, String> properties = new HashMap<>(Map.ofEntries(
+			Map.entry("spring.profiles.active", options.profile()),
+			Map.entry("server.port", "0"),
+			Map.entry("eureka.client.enabled", "false"),
+			Map.entry("DB_URL", postgres.getJdbcUrl()),
+			Map.entry("DB_USERNAME", postgres.getUsername()),
+			Map.entry("DB_PASSWORD", postgres.getPassword()),
+			Map.entry("REDIS_HOST", redis.getHost()),
+			Map.entry("REDIS_PORT", String.valueOf(redis.getMappedPort(6379))),
+			Map.entry("REDIS_PASSWORD", ""),
+			Map.entry("REDIS_PROTOCOL", "redis"),
+			Map.entry("JWT_ISSUER", "http://loadtest"),
+			Map.entry("SESSION_KEY_SECRET", "load-session-key-secret"),
+			Map.entry("auth.internal-token.clients." + CLIENT_ID, new BCryptPasswordEncoder().encode(CLIENT_SECRET)),
+			Map.entry("KMS_JWT_KEY_ID", FakeKmsClient.KEY_ID),
+			Map.entry("AWS_REGION", "ap-northeast-2"),
+			Map.entry("load.kms-latency", options.kmsLatency().toString())));
+		if (!options.kmsRegions().isEmpty()) {
+			properties.putAll(startKmsServers(options));
+		}
+		List<String> args = new ArrayList<>();
+		properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+		context = new SpringApplicationBuilder(AuthApplication.class).run(args.toArray(String[]::new));
+		seed(options.users());
+	}
+
+	/**
+	 * 리전마다 다른 포트의 KMS 대역을 띄우고 그 엔드포인트로 리전 설정을 만든다. SDK 자격 증명은 더미 값이면 된다.
+	 */
+	private Map<String, String> startKmsServers(LoadTestOptions options) {
+		KeyPair keyPair;
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			keyPair = generator.generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+		for (String region : options.kmsRegions()) {
+			try {
+				kmsServers.add(new LocalKmsServer(region, keyPair, options.kmsLatency(),
+					region.equals(options.kmsBrownoutRegion())));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		System.setProperty("aws.accessKeyId", "loadtest");
+		System.setProperty("aws.secretAccessKey", "loadtest");
+		log.info("KMS 리전 대역 - {}", kmsServers.stream()
+			.map(server -> server.region() + "=" + server.endpoint())
+			.collect(Collectors.joining(", ")));
+
+		return Map.of(
+			"load.kms-regions", String.join(",", options.kmsRegions()),
+			"AWS_REGION", options.kmsRegions().get(0),
+			"KMS_JWT_REPLICA_REGIONS", String.join(",", options.kmsRegions().subList(1, options.kmsRegions().size())),
+			"KMS_JWT_ENDPOINTS", kmsServers.stream()
+				.map(server -> server.region() + "=" + server.endpoint())
+				.collect(Collectors.joining(",")));
+	}
+
+	/**
+	 * 모든 사용자가 같은 비밀번호 해시를 쓴다. BCrypt 검증 비용은 해시를 공유해도 같다.
+	 */
+	private void seed(int users) {
+		String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+		long started = System.nanoTime();
+		new JdbcTemplate(context.getBean(DataSource.class)).update(SEED_USERS, hash, users);
+		log.info("부하 테스트 사용자 생성 - users: {}, elapsedMs: {}", users, (System.nanoTime() - started) / 1_000_000);
+	}
+
+	int port() {
+		return ((WebServerApplicationContext)context).getWebServer().getPort();
+	}
+
+	@Override
+	public void close() {
+		if (context != null) {
+			context.close();
+		}
+		kmsServers.forEach(LocalKmsServer::close);
+		redis.stop();
+		postgres.stop();
+	}
+}
@@ -0,0 +1,42 @@
+package app.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * -Dload.* 시스템 속성으로 받는 실행 옵션. gradle loadTest 태스크는 -Pload.* 를 그대로 넘긴다.
+ *
+ * @param rate       초당 요청 도착 수(전체). 응답과 관계없이 이 속도로 도착한다.
+ * @param maxInFlight 동시에 기다리는 요청의 상한. 넘치면 보내지 않고 dropped 로 센다.
+ * @param kmsRegions 비어 있지 않으면 리전마다 {@link LocalKmsServer} 를 띄우고 첫 리전을 primary 로 쓴다.
+ * @param kmsBrownoutRegion 이 리전의 KMS 대역은 모든 호출을 스로틀링한다.
+ */
+record LoadTestOptions(Scenario scenario, double rate, Duration warmup, Duration duration, int users,
+					   String profile, Duration kmsLatency, int maxInFlight, long seed, Path reportDir,
+					   List<String> kmsRegions, String kmsBrownoutRegion) {
+
+	static LoadTestOptions fromSystemProperties() {
+		return new LoadTestOptions(
+			Scenario.valueOf(property("load.scenario", "mixed").toUpperCase().replace('-', '_')),
+			Double.parseDouble(property("load.rate", "200")),
+			Duration.parse(property("load.warmup", "PT10S")),
+			Duration.parse(property("load.duration", "PT60S")),
+			Integer.parseInt(property("load.users", "10000")),
+			property("load.profile", "prod"),
+			Duration.parse(property("load.kms-latency", "PT0.005S")),
+			Integer.parseInt(property("load.max-in-flight", "2000")),
+			Long.parseLong(property("load.seed", "42")),
+			Path.of(property("load.report-dir", "build/reports/loadtest")),
+			Arrays.stream(property("load.kms-regions", "").split(","))
+				.map(String::trim)
+				.filter(region -> !region.isEmpty())
+				.toList(),
+			property("load.kms-brownout-region", ""));
+	}
+
+	private static String property(String name, String defaultValue) {
+		return System.getProperty(name, defaultValue);
+	}
+}
@@ -0,0 +1,46 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * ./gradlew loadTest -Pload.scenario=mixed -Pload.rate=300 -Pload.duration=PT2M
+ * Docker 가 필요하다(Postgres, Redis 컨테이너). 워밍업 구간의 결과는 버리고 본 구간만 보고한다.
+ */
+public final class LoadTestRunner {
+
+	private LoadTestRunner() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+		try (LoadTestEnvironment environment = LoadTestEnvironment.start(options)) {
+			OpenLoopDriver driver = new OpenLoopDriver(environment.port(), options);
+			if (!options.warmup().isZero()) {
+				driver.run(options.warmup());
+				driver.resetStats();
+			}
+			driver.run(options.duration());
+			report(options, driver, System.out);
+		}
+		// 남아 있는 비데몬 스레드(HttpClient 등)와 관계없이 끝낸다.
+		System.exit(0);
+	}
+
+	private static void report(LoadTestOptions options, OpenLoopDriver driver, PrintStream out) throws IOException {
+		double seconds = options.duration().toMillis() / 1000.0;
+		String prefix = options.scenario().name().toLowerCase() + "-" + (long)options.rate() + "rps";
+		out.printf("%nscenario=%s profile=%s rate=%.0f/s duration=%s users=%d kmsLatency=%s kmsRegions=%s%n",
+			options.scenario(), options.profile(), options.rate(), options.duration(), options.users(),
+			options.kmsLatency(), options.kmsRegions().isEmpty() ? "fake" : options.kmsRegions());
+		EndpointStats.printHeader(out);
+		for (EndpointStats stats : driver.stats().values()) {
+			if (stats.isEmpty()) {
+				continue;
+			}
+			stats.printSummary(out, seconds);
+			stats.writeDistribution(options.reportDir(), prefix);
+		}
+		out.printf("latency distributions: %s%n", options.reportDir().toAbsolutePath());
+	}
+}
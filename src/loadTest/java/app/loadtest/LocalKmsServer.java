@@ -0,0 +1,122 @@
+package app.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 한 리전의 KMS 엔드포인트를 흉내 내는 HTTP 서버. AWS SDK 가 쓰는 JSON 1.1 프로토콜로 GetPublicKey 와 Sign 에만 답한다.
+ * multi-region 키처럼 모든 리전이 같은 키쌍을 쓰고, KeyId 는 리전마다 다른 ARN 으로 돌려준다.
+ * brownout 이면 모든 호출에 ThrottlingException 을 돌려준다.
+ */
+final class LocalKmsServer implements AutoCloseable {
+
+	private static final byte[] SHA256_DIGEST_INFO = HexFormat.of().parseHex("3031300d060960864801650304020105000420");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String region;
+	private final KeyPair keyPair;
+	private final Duration latency;
+	private final boolean brownout;
+	private final HttpServer server;
+
+	LocalKmsServer(String region, KeyPair keyPair, Duration latency, boolean brownout) throws IOException {
+		this.region = region;
+		this.keyPair = keyPair;
+		this.latency = latency;
+		this.brownout = brownout;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(Executors.newCachedThreadPool());
+		this.server.start();
+	}
+
+	String region() {
+		return region;
+	}
+
+	String endpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	private String keyArn() {
+		return "arn:aws:kms:" + region + ":000000000000:key/" + FakeKmsClient.KEY_ID;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (InputStream body = exchange.getRequestBody()) {
+			JsonNode request = objectMapper.readTree(body);
+			String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+			if (!latency.isZero()) {
+				LockSupport.parkNanos(latency.toNanos());
+			}
+			if (brownout) {
+				respond(exchange, 400, Map.of("__type", "ThrottlingException", "message", "Rate exceeded"));
+				return;
+			}
+			if (!FakeKmsClient.KEY_ID.equals(request.path("KeyId").asText())) {
+				respond(exchange, 400, Map.of("__type", "NotFoundException", "message", "Unknown key"));
+				return;
+			}
+			switch (target == null ? "" : target) {
+				case "TrentService.GetPublicKey" -> respond(exchange, 200, Map.of(
+					"KeyId", keyArn(),
+					"KeySpec", "RSA_2048",
+					"KeyUsage", "SIGN_VERIFY",
+					"SigningAlgorithms", List.of("RSASSA_PKCS1_V1_5_SHA_256"),
+					"PublicKey", Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded())));
+				case "TrentService.Sign" -> respond(exchange, 200, Map.of(
+					"KeyId", keyArn(),
+					"SigningAlgorithm", "RSASSA_PKCS1_V1_5_SHA_256",
+					"Signature", Base64.getEncoder().encodeToString(sign(
+						Base64.getDecoder().decode(request.path("Message").asText())))));
+				default -> respond(exchange, 400, Map.of("__type", "UnsupportedOperationException",
+					"message", "Unsupported target: " + target));
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private byte[] sign(byte[] digest) {
+		byte[] digestInfo = new byte[SHA256_DIGEST_INFO.length + digest.length];
+		System.arraycopy(SHA256_DIGEST_INFO, 0, digestInfo, 0, SHA256_DIGEST_INFO.length);
+		System.arraycopy(digest, 0, digestInfo, SHA256_DIGEST_INFO.length, digest.length);
+		try {
+			Signature signature = Signature.getInstance("NONEwithRSA");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(digestInfo);
+			return signature.sign();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/x-amz-json-1.1");
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
@@ -0,0 +1,173 @@
+package app.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 개방형(open-loop) 부하. 도착 간격을 지수 분포(포아송 도착)로 뽑아 응답을 기다리지 않고 보낸다.
+ * 서버가 느려져도 도착 속도가 줄지 않으므로, 닫힌 루프 부하와 달리 대기열이 쌓이는 모습이 지연에 그대로 드러난다.
+ */
+final class OpenLoopDriver {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final int SESSION_POOL_LIMIT = 10_000;
+	private static final String CLIENT_AUTHORIZATION = "Basic " + Base64.getEncoder().encodeToString(
+		(LoadTestEnvironment.CLIENT_ID + ":" + LoadTestEnvironment.CLIENT_SECRET).getBytes(StandardCharsets.UTF_8));
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final URI baseUri;
+	private final LoadTestOptions options;
+	private final SplittableRandom random;
+	private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+	private final Queue<String> accessTokens = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	OpenLoopDriver(int port, LoadTestOptions options) {
+		this.baseUri = URI.create("http://localhost:" + port);
+		this.options = options;
+		this.random = new SplittableRandom(options.seed());
+		for (Endpoint endpoint : Endpoint.values()) {
+			stats.put(endpoint, new EndpointStats(endpoint));
+		}
+	}
+
+	Map<Endpoint, EndpointStats> stats() {
+		return stats;
+	}
+
+	void resetStats() {
+		stats.values().forEach(EndpointStats::reset);
+	}
+
+	/**
+	 * duration 동안 요청을 도착시키고, 남은 요청이 끝나기를 최대 REQUEST_TIMEOUT 만큼 기다린다.
+	 */
+	void run(Duration duration) {
+		double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+		long next = start;
+
+		while (next - end < 0) {
+			long wait = next - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			dispatch(options.scenario().next(random), next);
+			next += (long)(-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+		}
+
+		long drainDeadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+		while (inFlight.get() > 0 && System.nanoTime() - drainDeadline < 0) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+		}
+	}
+
+	private void dispatch(Endpoint endpoint, long intendedStart) {
+		String accessToken = null;
+		if (endpoint == Endpoint.LOGOUT) {
+			accessToken = accessTokens.poll();
+			if (accessToken == null) {
+				// 아직 로그인한 세션이 없으면 로그인으로 대신한다.
+				endpoint = Endpoint.LOGIN;
+			}
+		}
+		EndpointStats endpointStats = stats.get(endpoint);
+		if (inFlight.get() >= options.maxInFlight()) {
+			endpointStats.recordDropped();
+			return;
+		}
+
+		Endpoint sent = endpoint;
+		inFlight.incrementAndGet();
+		client.sendAsync(request(endpoint, accessToken), HttpResponse.BodyHandlers.ofString())
+			.whenComplete((response, error) -> {
+				long latency = System.nanoTime() - intendedStart;
+				if (error != null) {
+					endpointStats.recordTransportError(latency);
+				} else {
+					endpointStats.recordResponse(response.statusCode(), latency);
+					if (sent == Endpoint.LOGIN && response.statusCode() == 200) {
+						rememberSession(response.body());
+					}
+				}
+				inFlight.decrementAndGet();
+			});
+	}
+
+	private HttpRequest request(Endpoint endpoint, String accessToken) {
+		return switch (endpoint) {
+			case LOGIN -> login(existingUsername(), LoadTestEnvironment.PASSWORD);
+			case LOGIN_INVALID -> random.nextBoolean()
+				? login("stuffed_" + random.nextInt(Integer.MAX_VALUE), "guess-" + random.nextInt(1000))
+				: login(existingUsername(), "guess-" + random.nextInt(1000));
+			case LOGOUT -> builder("/auth/logout")
+				.header("Authorization", "Bearer " + accessToken)
+				.POST(HttpRequest.BodyPublishers.noBody())
+				.build();
+			case OAUTH2_TOKEN -> builder("/oauth2/token")
+				.header("Authorization", CLIENT_AUTHORIZATION)
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString("grant_type=client_credentials&user_id="
+					+ (1 + random.nextInt(options.users())) + "&user_role=" + URLEncoder.encode("CUSTOMER",
+					StandardCharsets.UTF_8)))
+				.build();
+			case JWKS -> builder("/oauth/jwks").GET().build();
+		};
+	}
+
+	private HttpRequest login(String username, String password) {
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(Map.of("username", username, "password", password));
+			return builder("/auth/login")
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(body))
+				.build();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private HttpRequest.Builder builder(String path) {
+		return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+	}
+
+	private String existingUsername() {
+		return LoadTestEnvironment.USERNAME_PREFIX + (1 + random.nextInt(options.users()));
+	}
+
+	private void rememberSession(String body) {
+		if (accessTokens.size() >= SESSION_POOL_LIMIT) {
+			return;
+		}
+		try {
+			JsonNode accessToken = objectMapper.readTree(body).path("result").path("accessToken");
+			if (accessToken.isTextual()) {
+				accessTokens.add(accessToken.asText());
+			}
+		} catch (Exception ignored) {
+			// 응답 본문이 예상과 다르면 logout 대상에서 빠질 뿐이다.
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package app.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 요청 종류의 비율. 도착 시점마다 가중치에 따라 하나를 고른다.
+ * CREDENTIAL_STUFFING 은 대부분이 틀린 계정 정보(없는 사용자 절반, 틀린 비밀번호 절반)인 로그인 폭주다.
+ */
+enum Scenario {
+	MIXED(Map.of(Endpoint.LOGIN, 40, Endpoint.LOGOUT, 10, Endpoint.OAUTH2_TOKEN, 30, Endpoint.JWKS, 20)),
+	CREDENTIAL_STUFFING(Map.of(Endpoint.LOGIN_INVALID, 90, Endpoint.LOGIN, 10));
+
+	private final Endpoint[] endpoints;
+	private final int[] cumulativeWeights;
+
+	Scenario(Map<Endpoint, Integer> weights) {
+		Map<Endpoint, Integer> ordered = new EnumMap<>(weights);
+		this.endpoints = ordered.keySet().toArray(Endpoint[]::new);
+		this.cumulativeWeights = new int[endpoints.length];
+		int total = 0;
+		for (int i = 0; i < endpoints.length; i++) {
+			total += ordered.get(endpoints[i]);
+			cumulativeWeights[i] = total;
+		}
+	}
+
+	Endpoint next(SplittableRandom random) {
+		int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+		for (int i = 0; i < cumulativeWeights.length; i++) {
+			if (pick < cumulativeWeights[i]) {
+				return endpoints[i];
+			}
+		}
+		throw new IllegalStateException();
+	}
+}
@@ -29,9 +29,9 @@ public class AuthController {
 	@PostMapping("/login")
 	@Operation(summary = "로그인 API", description = "아이디와 비밀번호로 로그인하여 토큰을 발급받습니다.")
 	public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-		log.info("Login attempt for user: {}", PiiMasker.mask(request.getUsername()));
+		log.info("Login attempt for user: {}", PiiMasker.lazy(request.getUsername()));
 		LoginResponse response = authService.login(request);
-		log.info("User '{}' logged in successfully.", PiiMasker.mask(request.getUsername()));
+		log.info("User '{}' logged in successfully.", PiiMasker.lazy(request.getUsername()));
 		return ApiResponse.onSuccess(UserSuccessStatus.LOGIN_SUCCESS, response);
 	}
 
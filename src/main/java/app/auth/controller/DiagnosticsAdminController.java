@@ -0,0 +1,58 @@
+package app.auth.controller;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.code.status.SuccessStatus;
+import app.global.jfr.JfrRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Diagnostics Admin", description = "운영 진단")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth/admin/diagnostics")
+@PreAuthorize("hasRole('MASTER')")
+public class DiagnosticsAdminController {
+
+	private final JfrRecordingService jfrRecordingService;
+
+	@PostMapping("/jfr")
+	@Operation(summary = "JFR 레코딩 시작 API", description = "로그인·서명·키 관리 이벤트를 켠 JFR 레코딩을 제한된 시간 동안 수행합니다.")
+	public ApiResponse<JfrRecordingService.RecordingInfo> startRecording(
+		@RequestParam(defaultValue = "PT60S") Duration duration,
+		@RequestParam(defaultValue = "false") boolean includeJdkEvents) {
+		return ApiResponse.onSuccess(SuccessStatus._OK, jfrRecordingService.start(duration, includeJdkEvents));
+	}
+
+	@GetMapping("/jfr")
+	@Operation(summary = "JFR 레코딩 다운로드 API", description = "현재 또는 마지막 레코딩을 .jfr 파일로 내려받습니다.")
+	public ResponseEntity<StreamingResponseBody> downloadRecording() {
+		Path file = jfrRecordingService.dump();
+		StreamingResponseBody body = out -> {
+			try {
+				Files.copy(file, out);
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_OCTET_STREAM)
+			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+			.body(body);
+	}
+}
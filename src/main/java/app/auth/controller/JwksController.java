@@ -1,6 +1,7 @@
 package app.auth.controller;
 
 import app.auth.service.JwtKeyManager;
+import app.global.metrics.AuthMetrics;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -17,9 +18,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class JwksController {
 
   private final JwtKeyManager jwtKeyManager;
+  private final AuthMetrics authMetrics;
 
   @GetMapping(value = "/jwks", produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
-    return ResponseEntity.ok(jwtKeyManager.getJwks());
+    return ResponseEntity.ok(authMetrics.record("auth.jwks.serve", jwtKeyManager::getJwks));
   }
 }
\ No newline at end of file
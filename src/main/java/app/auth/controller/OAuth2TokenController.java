@@ -1,11 +1,18 @@
 package app.auth.controller;
 
+import app.auth.model.dto.request.InternalTokenBatchRequest;
+import app.auth.service.InternalTokenBatchService;
 import app.auth.service.OAuth2TokenService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -14,10 +21,14 @@ import java.util.Map;
 public class OAuth2TokenController {
 
 	private final OAuth2TokenService oauth2TokenService;
+	private final InternalTokenBatchService internalTokenBatchService;
 
+	/**
+	 * 호출한 내부 서비스는 HTTP Basic 으로 인증되어 있고, 그 client_id 가 토큰에 실린다.
+	 */
 	@PostMapping("/token")
 	public ResponseEntity<Map<String, Object>> issueToken(
-		@RequestParam MultiValueMap<String, String> parameters) {
+		@RequestParam MultiValueMap<String, String> parameters, Authentication client) {
 
 		String grantType = parameters.getFirst("grant_type");
 		String userId = parameters.getFirst("user_id");
@@ -25,10 +36,27 @@ public class OAuth2TokenController {
 
 
 		if ("client_credentials".equals(grantType)) {
-			Map<String, Object> tokenResponse = oauth2TokenService.issueTokenForClientCredentials(userId, userRole);
+			Map<String, Object> tokenResponse = oauth2TokenService.issueTokenForClientCredentials(client.getName(), userId,
+				userRole);
 			return ResponseEntity.ok(tokenResponse);
 		}
 
 		return ResponseEntity.badRequest().body(Map.of("error", "unsupported_grant_type"));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * client_credentials 일괄 발급. /token 과 같이 HTTP Basic 으로 인증된 내부 서비스만 호출할 수 있다.
+	 * 결과는 완료 순서대로 한 줄에 하나씩(application/x-ndjson) 내려가며,
+	 * 각 줄의 index 가 요청 목록의 위치를 가리킨다. 실패한 항목은 error 필드를 가진 줄로 내려간다.
+	 */
+	@PostMapping(value = "/token/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> issueTokens(@Valid @RequestBody InternalTokenBatchRequest request,
+		Authentication client) {
+		List<InternalTokenBatchRequest.Item> items = request.getTokens();
+		internalTokenBatchService.validateBatchSize(items);
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(out -> internalTokenBatchService.writeBatch(client.getName(), items, out));
+	}
+}
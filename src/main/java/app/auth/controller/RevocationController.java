@@ -0,0 +1,46 @@
+package app.auth.controller;
+
+import app.auth.service.AccessTokenRevocationService;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 다른 서비스의 검증기가 access token 폐기 여부를 메모리에서 판단할 수 있도록 jti 폐기 필터를 배포한다.
+ * 스냅샷을 한 번 받고 나면 X-Revocation-Version 을 since 로 넘겨 델타만 받는다.
+ */
+@RestController
+@RequestMapping("/oauth/revocations")
+@RequiredArgsConstructor
+public class RevocationController {
+
+  private static final String VERSION_HEADER = "X-Revocation-Version";
+
+  private final AccessTokenRevocationService accessTokenRevocationService;
+
+  @GetMapping(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<byte[]> snapshot(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+    String version = accessTokenRevocationService.currentVersion();
+    String etag = "\"" + version + "\"";
+    if (etag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(304).eTag(etag).header(VERSION_HEADER, version).build();
+    }
+    AccessTokenRevocationService.Snapshot snapshot = accessTokenRevocationService.snapshot();
+    return ResponseEntity.ok()
+        .eTag("\"" + snapshot.version() + "\"")
+        .header(VERSION_HEADER, snapshot.version())
+        .body(snapshot.body());
+  }
+
+  @GetMapping(value = "/delta", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<byte[]> delta(@RequestParam String since) {
+    return ResponseEntity.ok(accessTokenRevocationService.delta(since));
+  }
+}
@@ -0,0 +1,59 @@
+package app.auth.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import app.auth.model.dto.request.SessionRevokeRequest;
+import app.auth.model.dto.response.SessionRevokeResponse;
+import app.auth.model.dto.response.TokenMemoryReport;
+import app.auth.service.RefreshTokenService;
+import app.auth.service.SessionIndexSweeper;
+import app.auth.status.UserSuccessStatus;
+import app.global.apiPayload.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Session Admin", description = "세션 관리")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth/admin/sessions")
+@PreAuthorize("hasRole('MASTER')")
+public class SessionAdminController {
+
+	private final RefreshTokenService refreshTokenService;
+	private final SessionIndexSweeper sessionIndexSweeper;
+
+	@PostMapping("/revoke")
+	@Operation(summary = "세션 일괄 폐기 API", description = "여러 사용자의 Refresh Token 을 chunk 단위로 한 번에 폐기합니다.")
+	public ApiResponse<SessionRevokeResponse> revokeSessions(@Valid @RequestBody SessionRevokeRequest request) {
+		SessionRevokeResponse response = refreshTokenService.revokeSessionsInBulk(request.getUserIds());
+		return ApiResponse.onSuccess(UserSuccessStatus.SESSIONS_REVOKED, response);
+	}
+
+	@PostMapping("/migrate")
+	@Operation(summary = "레거시 세션 이전 API", description = "@RedisHash 형식의 Refresh Token 을 압축 문자열 형식으로 옮깁니다.")
+	public ApiResponse<Integer> migrateLegacySessions(@RequestParam(defaultValue = "1000") int batchSize) {
+		return ApiResponse.onSuccess(UserSuccessStatus.SESSIONS_MIGRATED,
+			refreshTokenService.migrateLegacyTokens(batchSize));
+	}
+
+	@GetMapping("/memory-report")
+	@Operation(summary = "세션 메모리 비교 API", description = "새 형식과 레거시 형식의 토큰당 Redis 메모리 사용량을 표본 비교합니다.")
+	public ApiResponse<TokenMemoryReport> memoryReport(@RequestParam(defaultValue = "200") int sampleSize) {
+		return ApiResponse.onSuccess(UserSuccessStatus.SESSION_MEMORY_REPORTED,
+			refreshTokenService.memoryReport(sampleSize));
+	}
+
+	@GetMapping("/sweeper")
+	@Operation(summary = "세션 인덱스 스윕 현황 API", description = "이 인스턴스가 수행한 스윕 횟수와 정리한 멤버·키·메모리를 조회합니다.")
+	public ApiResponse<SessionIndexSweeper.SweepTotals> sweeperTotals() {
+		return ApiResponse.onSuccess(UserSuccessStatus.SESSION_SWEEPER_REPORTED, sessionIndexSweeper.totals());
+	}
+}
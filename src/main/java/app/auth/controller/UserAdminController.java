@@ -0,0 +1,61 @@
+package app.auth.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import app.auth.model.dto.response.UserSummaryResponse;
+import app.auth.model.entity.enums.UserRole;
+import app.auth.service.UserQueryService;
+import app.auth.service.WithdrawalAnonymizationJob;
+import app.auth.status.UserSuccessStatus;
+import app.global.apiPayload.ApiResponse;
+import app.global.apiPayload.KeysetPageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "User Admin", description = "사용자 조회")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth/admin/users")
+@PreAuthorize("hasRole('MASTER')")
+public class UserAdminController {
+
+	private final UserQueryService userQueryService;
+	private final WithdrawalAnonymizationJob withdrawalAnonymizationJob;
+
+	@GetMapping
+	@Operation(summary = "역할별 사용자 목록 API", description = "userId 순 커서 페이지로 조회합니다. 전체 건수는 includeTotal=true 일 때만 계산합니다.")
+	public ApiResponse<KeysetPageResponse<UserSummaryResponse>> listUsers(
+		@RequestParam UserRole role,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "100") int size,
+		@RequestParam(defaultValue = "false") boolean includeTotal) {
+		return ApiResponse.onSuccess(UserSuccessStatus.USERS_LISTED,
+			userQueryService.listByRole(role, cursor, size, includeTotal));
+	}
+
+	@PostMapping("/withdrawals/anonymize")
+	@Operation(summary = "탈퇴 회원 익명화 API", description = "아직 익명화되지 않은 탈퇴 회원을 chunk 단위로 익명화하고 세션을 폐기합니다.")
+	public ApiResponse<WithdrawalAnonymizationJob.AnonymizationReport> anonymizeWithdrawals() {
+		return ApiResponse.onSuccess(UserSuccessStatus.WITHDRAWALS_ANONYMIZED, withdrawalAnonymizationJob.run());
+	}
+
+	/**
+	 * 역할에 속한 사용자 전체를 userId 순으로 한 줄에 하나씩(application/x-ndjson) 내려보낸다.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "역할별 사용자 내보내기 API", description = "역할에 속한 사용자 전체를 JSON Lines 로 스트리밍합니다.")
+	public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam UserRole role) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(out -> userQueryService.exportByRole(role, out));
+	}
+}
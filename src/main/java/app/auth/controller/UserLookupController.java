@@ -0,0 +1,41 @@
+package app.auth.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import app.auth.model.dto.request.UserLookupRequest;
+import app.auth.service.UserLookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Internal User", description = "내부 서비스용 사용자 조회")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/users")
+public class UserLookupController {
+
+	private final UserLookupService userLookupService;
+
+	/**
+	 * 사용자 ID 목록의 역할을 한 번에 조회한다. 결과는 조회되는 순서대로 한 줄에 하나씩(application/x-ndjson) 내려간다.
+	 */
+	@PostMapping(value = "/lookup", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "사용자 일괄 조회 API", description = "여러 사용자의 username 과 역할을 JSON Lines 로 스트리밍합니다.")
+	public ResponseEntity<StreamingResponseBody> lookupUsers(@Valid @RequestBody UserLookupRequest request) {
+		List<Long> userIds = request.getUserIds();
+		userLookupService.validateLookupSize(userIds);
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(out -> userLookupService.writeLookup(userIds, out));
+	}
+}
@@ -0,0 +1,43 @@
+package app.auth.model.dto.request;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class InternalTokenBatchRequest {
+
+	@NotEmpty
+	@Schema(description = "내부 토큰을 발급할 (user_id, user_role) 목록")
+	private List<@NotNull Item> tokens;
+
+	public InternalTokenBatchRequest(List<Item> tokens) {
+		this.tokens = tokens;
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	public static class Item {
+
+		@JsonProperty("user_id")
+		private String userId;
+
+		@JsonProperty("user_role")
+		private String userRole;
+
+		public Item(String userId, String userRole) {
+			this.userId = userId;
+			this.userRole = userRole;
+		}
+	}
+}
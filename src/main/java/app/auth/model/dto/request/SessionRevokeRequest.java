@@ -0,0 +1,24 @@
+package app.auth.model.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SessionRevokeRequest {
+
+	@NotEmpty
+	@Schema(description = "세션을 폐기할 사용자 ID 목록")
+	private List<@NotBlank String> userIds;
+
+	public SessionRevokeRequest(List<String> userIds) {
+		this.userIds = userIds;
+	}
+}
@@ -0,0 +1,24 @@
+package app.auth.model.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserLookupRequest {
+
+	@NotEmpty
+	@Schema(description = "조회할 사용자 ID 목록")
+	private List<@NotNull Long> userIds;
+
+	public UserLookupRequest(List<Long> userIds) {
+		this.userIds = userIds;
+	}
+}
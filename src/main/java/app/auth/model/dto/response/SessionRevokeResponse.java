@@ -0,0 +1,18 @@
+package app.auth.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionRevokeResponse {
+	private int requestedUsers;
+	private int chunks;
+	private long unlinkedKeys;
+}
@@ -0,0 +1,21 @@
+package app.auth.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenMemoryReport {
+	private int compactSampled;
+	private long compactAvgBytes;
+	private int legacySampled;
+	private long legacyAvgBytes;
+	private long legacyIndexBytesPerToken;
+	private long savedBytesPerMillionTokens;
+}
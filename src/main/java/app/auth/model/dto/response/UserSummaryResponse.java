@@ -0,0 +1,18 @@
+package app.auth.model.dto.response;
+
+import app.auth.model.entity.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 리포지토리의 DTO projection 으로도 쓰이므로 생성자는 하나만 둔다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class UserSummaryResponse {
+	private Long userId;
+	private String username;
+	private UserRole userRole;
+}
@@ -1,23 +1,66 @@
 package app.auth.model.entity;
 
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-
-import org.springframework.data.annotation.Id;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * Redis 에 문자열 하나로 저장되는 Refresh Token 레코드.
+ * 저장 형식: {version}|{userId}|{issuedAt(epoch seconds, base36)}|{familyId(base64url)}
+ */
 @Getter
 @AllArgsConstructor
-@RedisHash(value = "p_refresh_token")
 public class RefreshToken {
 
-	@Id
+	private static final String FORMAT_VERSION = "1";
+	private static final char SEPARATOR = '|';
+
 	private String token;
 
 	private String userId;
 
-	@TimeToLive
+	private String familyId;
+
+	private Instant issuedAt;
+
 	private Long ttl;
-}
\ No newline at end of file
+
+	public RefreshToken(String token, String userId, Long ttl) {
+		this(token, userId, newFamilyId(), Instant.now(), ttl);
+	}
+
+	public static String newFamilyId() {
+		UUID uuid = UUID.randomUUID();
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.putLong(uuid.getMostSignificantBits());
+		buffer.putLong(uuid.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+
+	public String pack() {
+		return FORMAT_VERSION + SEPARATOR + userId
+			+ SEPARATOR + Long.toString(issuedAt.getEpochSecond(), Character.MAX_RADIX)
+			+ SEPARATOR + familyId;
+	}
+
+	public static Optional<RefreshToken> unpack(String token, String packed, Long ttl) {
+		if (packed == null) {
+			return Optional.empty();
+		}
+		String[] parts = packed.split("\\|", -1);
+		if (parts.length != 4 || !FORMAT_VERSION.equals(parts[0])) {
+			return Optional.empty();
+		}
+		try {
+			Instant issuedAt = Instant.ofEpochSecond(Long.parseLong(parts[2], Character.MAX_RADIX));
+			return Optional.of(new RefreshToken(token, parts[1], parts[3], issuedAt, ttl));
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+}
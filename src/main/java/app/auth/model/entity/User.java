@@ -68,13 +68,14 @@ public class User extends BaseEntity {
 	/**
 	 * 회원 탈퇴 시 개인정보를 익명화하는 메서드
 	 * userRole은 유지하여 통계 등에 활용
+	 * nickname, phoneNumber 는 unique 이므로 userId 를 붙인다. 일괄 처리(WithdrawalAnonymizationJob)와 같은 값을 써야 한다.
 	 */
 	public void anonymizeForWithdrawal() {
 		this.username = "withdrawn_user_" + this.userId;
 		this.password = "withdrawn_password";
 		this.email = "withdrawn_" + this.userId + "@example.com";
-		this.nickname = "탈퇴한 사용자";
+		this.nickname = "탈퇴한 사용자_" + this.userId;
 		this.realName = "탈퇴한 사용자";
-		this.phoneNumber = "000-0000-0000";
+		this.phoneNumber = "withdrawn-" + this.userId;
 	}
 }
\ No newline at end of file
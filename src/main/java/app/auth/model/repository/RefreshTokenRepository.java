@@ -1,7 +1,274 @@
 package app.auth.model.repository;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Repository;
+
+import app.auth.model.dto.response.TokenMemoryReport;
 import app.auth.model.entity.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
+import app.global.redis.RedisSlots;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh Token 을 토큰당 문자열 키 하나({@link SessionKeys#tokenRecord(String)})와 native TTL 로 저장한다.
+ * 이전 @RedisHash("p_refresh_token") 형식은 legacy-fallback 이 켜져 있는 동안 읽기 시점에 새 형식으로 옮겨진다.
+ */
+@Slf4j
+@Repository
+public class RefreshTokenRepository {
+
+	private static final String LEGACY_HASH = "p_refresh_token";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisTemplate<String, String> replicaRedisTemplate;
+
+	@Value("${auth.refresh-token.legacy-fallback:true}")
+	private boolean legacyFallback;
+
+	/**
+	 * 레거시 토큰은 발급 시각을 저장하지 않았으므로, 발급 당시 TTL 이 이 값이었다고 보고 남은 TTL 에서 발급 시각을 되돌려 계산한다.
+	 */
+	@Value("${jwt.refresh-token-validity-in-milliseconds:604800000}")
+	private long refreshTokenValidityMs = 604800000L;
+
+	@Value("${REDIS_MODE:standalone}")
+	private String redisMode = "standalone";
+
+	public RefreshTokenRepository(RedisTemplate<String, String> redisTemplate,
+		@Qualifier("replicaRedisTemplate") RedisTemplate<String, String> replicaRedisTemplate) {
+		this.redisTemplate = redisTemplate;
+		this.replicaRedisTemplate = replicaRedisTemplate;
+	}
+
+	public RefreshToken save(RefreshToken refreshToken) {
+		redisTemplate.opsForValue().set(
+			key(refreshToken.getToken()),
+			refreshToken.pack(),
+			refreshToken.getTtl(),
+			TimeUnit.SECONDS
+		);
+		return refreshToken;
+	}
+
+	public Optional<RefreshToken> findById(String token) {
+		String packed = redisTemplate.opsForValue().get(key(token));
+		if (packed != null) {
+			return RefreshToken.unpack(token, packed, null);
+		}
+		return legacyFallback ? migrateLegacy(token) : Optional.empty();
+	}
+
+	/**
+	 * 회전용 조회. GETDEL 로 읽기와 삭제를 한 번에 수행하므로 같은 토큰으로 동시에 회전해도 한 요청만 성공한다.
+	 */
+	public Optional<RefreshToken> findAndDelete(String token) {
+		String key = key(token);
+		String packed = redisTemplate.opsForValue().getAndDelete(key);
+		if (packed != null) {
+			return RefreshToken.unpack(token, packed, null);
+		}
+		if (!legacyFallback) {
+			return Optional.empty();
+		}
+		return migrateLegacy(token).map(migrated -> {
+			redisTemplate.unlink(key);
+			return migrated;
+		});
+	}
+
+	public void delete(RefreshToken refreshToken) {
+		deleteById(refreshToken.getToken());
+	}
+
+	public void deleteById(String token) {
+		List<byte[][]> slotGroups = RedisSlots.groupBySlot(recordKeys(token).stream()
+			.map(RefreshTokenRepository::raw).toList());
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (byte[][] slotKeys : slotGroups) {
+				connection.keyCommands().unlink(slotKeys);
+			}
+			if (legacyFallback) {
+				connection.setCommands().sRem(raw(LEGACY_HASH), raw(token));
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * 토큰 하나가 차지하는 모든 키. 일괄 폐기 파이프라인에서 UNLINK 대상으로 사용한다.
+	 */
+	public List<String> recordKeys(String token) {
+		if (!legacyFallback) {
+			return List.of(key(token));
+		}
+		String legacyKey = LEGACY_HASH + ":" + token;
+		return List.of(key(token), legacyKey, legacyKey + ":idx");
+	}
+
+	public boolean isLegacyFallbackEnabled() {
+		return legacyFallback;
+	}
+
+	public String legacyIndexKey() {
+		return LEGACY_HASH;
+	}
+
+	/**
+	 * 레거시 인덱스 세트를 SSCAN 으로 최대 batchSize 개까지 훑어 새 형식으로 옮긴다.
+	 * 해시가 이미 만료된 멤버는 인덱스에서만 제거된다.
+	 */
+	public int migrateLegacyTokens(int batchSize) {
+		List<String> tokens = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+		try (Cursor<String> cursor = redisTemplate.opsForSet().scan(LEGACY_HASH, options)) {
+			while (cursor.hasNext() && tokens.size() < batchSize) {
+				tokens.add(cursor.next());
+			}
+		}
+
+		int migrated = 0;
+		for (String token : tokens) {
+			if (migrateLegacy(token).isPresent()) {
+				migrated++;
+			} else {
+				redisTemplate.opsForSet().remove(LEGACY_HASH, token);
+			}
+		}
+		log.info("레거시 Refresh Token 이전 - scanned: {}, migrated: {}", tokens.size(), migrated);
+		return migrated;
+	}
+
+	/**
+	 * 새 형식과 레거시 형식 각각에서 표본을 뽑아 MEMORY USAGE 로 토큰당 메모리를 비교한다.
+	 * 레거시 형식은 해시, :idx 키, p_refresh_token 인덱스 세트의 토큰당 몫을 합산한다.
+	 * 읽기 전용 진단이므로 replica 읽기가 설정되어 있으면 replica 에서 수행된다.
+	 * 클러스터 연결은 키스페이스 SCAN 을 지원하지 않으므로 클러스터 모드에서는 새 형식 표본을 건너뛴다(SessionIndexSweeper 와 같다).
+	 */
+	public TokenMemoryReport memoryReport(int sampleSize) {
+		List<String> compactKeys = new ArrayList<>();
+		if (!"cluster".equalsIgnoreCase(redisMode)) {
+			ScanOptions options = ScanOptions.scanOptions()
+				.match(SessionKeys.tokenRecordPattern())
+				.count(sampleSize)
+				.build();
+			try (Cursor<String> cursor = replicaRedisTemplate.scan(options)) {
+				while (cursor.hasNext() && compactKeys.size() < sampleSize) {
+					compactKeys.add(cursor.next());
+				}
+			}
+		}
+
+		List<String> legacyKeys = new ArrayList<>();
+		var legacyTokens = replicaRedisTemplate.opsForSet().distinctRandomMembers(LEGACY_HASH, sampleSize);
+		if (legacyTokens != null) {
+			legacyTokens.forEach(token -> {
+				legacyKeys.add(LEGACY_HASH + ":" + token);
+				legacyKeys.add(LEGACY_HASH + ":" + token + ":idx");
+			});
+		}
+
+		List<String> probes = new ArrayList<>(compactKeys);
+		probes.addAll(legacyKeys);
+		probes.add(LEGACY_HASH);
+		List<Object> usages = replicaRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String probe : probes) {
+				connection.execute("MEMORY", raw("USAGE"), raw(probe));
+			}
+			return null;
+		});
+
+		long compactBytes = sum(usages, 0, compactKeys.size());
+		long legacyBytes = sum(usages, compactKeys.size(), compactKeys.size() + legacyKeys.size());
+		long indexBytes = sum(usages, probes.size() - 1, probes.size());
+		Long indexSize = replicaRedisTemplate.opsForSet().size(LEGACY_HASH);
+
+		int legacySampled = legacyKeys.size() / 2;
+		long compactAvg = compactKeys.isEmpty() ? 0 : compactBytes / compactKeys.size();
+		long indexShare = indexSize == null || indexSize == 0 ? 0 : indexBytes / indexSize;
+		long legacyAvg = legacySampled == 0 ? 0 : legacyBytes / legacySampled + indexShare;
+
+		return TokenMemoryReport.builder()
+			.compactSampled(compactKeys.size())
+			.compactAvgBytes(compactAvg)
+			.legacySampled(legacySampled)
+			.legacyAvgBytes(legacyAvg)
+			.legacyIndexBytesPerToken(indexShare)
+			.savedBytesPerMillionTokens(compactAvg == 0 || legacyAvg == 0 ? 0 : (legacyAvg - compactAvg) * 1_000_000)
+			.build();
+	}
+
+	private Optional<RefreshToken> migrateLegacy(String token) {
+		String legacyKey = LEGACY_HASH + ":" + token;
+		Object userId = redisTemplate.opsForHash().get(legacyKey, "userId");
+		if (userId == null) {
+			return Optional.empty();
+		}
+		Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.SECONDS);
+		if (ttl == null || ttl <= 0) {
+			return Optional.empty();
+		}
+
+		RefreshToken migrated = new RefreshToken(token, userId.toString(), legacyFamilyId(token),
+			legacyIssuedAt(ttl), ttl);
+		save(migrated);
+		List<byte[][]> slotGroups = RedisSlots.groupBySlot(List.of(raw(legacyKey), raw(legacyKey + ":idx")));
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (byte[][] slotKeys : slotGroups) {
+				connection.keyCommands().unlink(slotKeys);
+			}
+			connection.setCommands().sRem(raw(LEGACY_HASH), raw(token));
+			return null;
+		});
+		log.debug("레거시 Refresh Token 을 새 형식으로 이전했습니다. ttl: {}s", ttl);
+		return Optional.of(migrated);
+	}
+
+	private Instant legacyIssuedAt(long remainingTtlSeconds) {
+		long elapsed = Math.max(0, refreshTokenValidityMs / 1000 - remainingTtlSeconds);
+		return Instant.ofEpochSecond(Instant.now().getEpochSecond() - elapsed);
+	}
+
+	/**
+	 * 레거시 토큰에는 family 가 없다. 토큰 값에서 결정적으로 만들어, 같은 토큰을 여러 경로(조회, 일괄 이전)가 동시에 옮겨도
+	 * 같은 familyId 를 갖게 한다.
+	 */
+	static String legacyFamilyId(String token) {
+		UUID uuid = UUID.nameUUIDFromBytes(raw(LEGACY_HASH + ":" + token));
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.putLong(uuid.getMostSignificantBits());
+		buffer.putLong(uuid.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+
+	private static long sum(List<Object> values, int from, int to) {
+		long total = 0;
+		for (int i = from; i < to && i < values.size(); i++) {
+			if (values.get(i) instanceof Number number) {
+				total += number.longValue();
+			}
+		}
+		return total;
+	}
+
+	private static String key(String token) {
+		return SessionKeys.tokenRecord(token);
+	}
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
 }
@@ -0,0 +1,114 @@
+package app.auth.model.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 세션 관련 Redis 키. 사용자 단위 키는 모두 사용자별 해시 태그를 포함하므로
+ * Redis Cluster 에서도 한 사용자의 RT, 토큰 인덱스, 토큰 레코드가 같은 slot 에 놓인다.
+ * 태그는 userId 를 비밀값으로 HMAC 한 값이라 클라이언트에게 나가는 토큰에서 userId 를 알아낼 수 없다.
+ * 비밀값은 기동 시 {@link #configure(String)} 로 한 번 정하며, 바꾸면 기존 사용자 키를 찾지 못하므로 바꾸지 않는다.
+ */
+public final class SessionKeys {
+
+	private static final String REFRESH_TOKEN_PREFIX = "RT:";
+	private static final String USER_TOKENS_PREFIX = "user_tokens:";
+	private static final String TOKEN_RECORD_PREFIX = "rt:";
+	private static final char TOKEN_SEPARATOR = '.';
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final int TAG_BYTES = 12;
+	private static final String DEFAULT_SECRET = "default_session_key_secret_for_dev";
+
+	private static final ThreadLocal<KeyedMac> MACS = new ThreadLocal<>();
+	private static volatile SecretKeySpec tagKey = secretKey(DEFAULT_SECRET);
+
+	private SessionKeys() {
+	}
+
+	public static void configure(String secret) {
+		tagKey = secretKey(secret == null || secret.isEmpty() ? DEFAULT_SECRET : secret);
+	}
+
+	public static String hashTag(String userId) {
+		return "{" + userTag(userId) + "}";
+	}
+
+	/**
+	 * 사용자별 불투명 태그. userId 에 대해 결정적이므로 어느 인스턴스에서 만들어도 같다.
+	 */
+	static String userTag(String userId) {
+		byte[] digest = mac().doFinal(userId.getBytes(StandardCharsets.UTF_8));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TAG_BYTES));
+	}
+
+	public static String refreshToken(String userId) {
+		return REFRESH_TOKEN_PREFIX + hashTag(userId);
+	}
+
+	public static String userTokens(String userId) {
+		return USER_TOKENS_PREFIX + hashTag(userId);
+	}
+
+	/**
+	 * 해시 태그를 붙이기 전의 사용자 단위 키. legacy-fallback 이 켜져 있는 동안 폐기 경로가 함께 읽고 지운다.
+	 */
+	public static String legacyRefreshToken(String userId) {
+		return REFRESH_TOKEN_PREFIX + userId;
+	}
+
+	public static String legacyUserTokens(String userId) {
+		return USER_TOKENS_PREFIX + userId;
+	}
+
+	public static String userTokensPattern() {
+		return USER_TOKENS_PREFIX + "*";
+	}
+
+	public static String tokenRecordPattern() {
+		return TOKEN_RECORD_PREFIX + "*";
+	}
+
+	/**
+	 * 토큰 값은 {태그}.{random} 형식이며, 레코드 키는 그 태그를 해시 태그로 사용한다. 토큰만으로 키를 만들 수 있어 회전 시 추가 조회가 없다.
+	 * 구분자가 없는 이전 형식의 토큰은 태그 없이 rt:{token} 으로 저장되어 있다.
+	 */
+	public static String tokenRecord(String token) {
+		int separator = token.indexOf(TOKEN_SEPARATOR);
+		if (separator <= 0) {
+			return TOKEN_RECORD_PREFIX + token;
+		}
+		return TOKEN_RECORD_PREFIX + "{" + token.substring(0, separator) + "}" + token.substring(separator);
+	}
+
+	public static String newToken(String userId, String random) {
+		return userTag(userId) + TOKEN_SEPARATOR + random;
+	}
+
+	private static Mac mac() {
+		SecretKeySpec key = tagKey;
+		KeyedMac cached = MACS.get();
+		if (cached == null || cached.key() != key) {
+			try {
+				Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+				mac.init(key);
+				cached = new KeyedMac(key, mac);
+				MACS.set(cached);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("Session key HMAC is unavailable", e);
+			}
+		}
+		return cached.mac();
+	}
+
+	private static SecretKeySpec secretKey(String secret) {
+		return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+	}
+
+	private record KeyedMac(SecretKeySpec key, Mac mac) {
+	}
+}
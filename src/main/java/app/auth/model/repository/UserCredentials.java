@@ -0,0 +1,15 @@
+package app.auth.model.repository;
+
+import app.auth.model.entity.enums.UserRole;
+
+/**
+ * 로그인에 필요한 컬럼만 읽는 projection. ux_p_user_username_active 인덱스만으로 응답할 수 있다 (V2 마이그레이션).
+ */
+public interface UserCredentials {
+
+	Long getUserId();
+
+	String getPassword();
+
+	UserRole getUserRole();
+}
@@ -1,21 +1,38 @@
 package app.auth.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import app.auth.model.dto.response.UserSummaryResponse;
 import app.auth.model.entity.User;
 import app.auth.model.entity.enums.UserRole;
 
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
 	Optional<User> findByUsername(String userName);
 
+	Optional<UserCredentials> findCredentialsByUsername(String username);
+
 	Optional<User> findByUserId(Long userId);
 
 	Page<User> findAllByUserRole(UserRole role, Pageable pageable);
+
+	/**
+	 * userId 가 afterUserId 보다 큰 사용자를 userId 순으로 pageable 크기만큼. List 를 돌려주므로 count 쿼리는 나가지 않는다.
+	 */
+	List<UserSummaryResponse> findByUserRoleAndUserIdGreaterThanOrderByUserIdAsc(UserRole role, Long afterUserId,
+		Pageable pageable);
+
+	long countByUserRole(UserRole role);
+
+	List<UserSummaryResponse> findByUserIdIn(Collection<Long> userIds);
 }
\ No newline at end of file
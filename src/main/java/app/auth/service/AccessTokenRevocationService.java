@@ -0,0 +1,180 @@
+package app.auth.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.jwt.RevocationFilter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * access token jti 폐기 피드.
+ * 폐기는 Redis Stream 에 기록되고, 모든 인스턴스가 스트림을 따라 읽어 같은 {@link RevocationFilter} 를 유지한다.
+ * 스트림 엔트리 ID 가 곧 버전이므로 검증 측은 스냅샷을 한 번 받은 뒤 그 버전 이후의 델타만 받아 메모리에서 폐기 여부를 판단한다.
+ * 스트림은 window(access token 최대 수명)보다 오래된 엔트리가 잘리는데, 그 토큰들은 이미 만료되었으므로 델타에서 빠져도 무방하다.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+public class AccessTokenRevocationService {
+
+	public static final int DELTA_MAGIC = 0x52564431; // "RVD1"
+	private static final String INITIAL_VERSION = "0-0";
+	private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RevocationFilter filter;
+
+	@Value("${auth.revocation.stream-key:revoked_jti}")
+	private String streamKey;
+
+	@Value("${auth.revocation.window:PT1H}")
+	private Duration window;
+
+	@Value("${auth.revocation.read-batch-size:1000}")
+	private int readBatchSize;
+
+	private String version = INITIAL_VERSION;
+
+	public AccessTokenRevocationService(RedisTemplate<String, String> redisTemplate,
+		@Value("${auth.revocation.bucket-width:PT5M}") Duration bucketWidth,
+		@Value("${auth.revocation.expected-per-bucket:20000}") long expectedPerBucket,
+		@Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+		this.redisTemplate = redisTemplate;
+		this.filter = new RevocationFilter(bucketWidth, expectedPerBucket, falsePositiveRate);
+	}
+
+	/**
+	 * 만료 전인 access token 을 폐기 스트림에 기록한다. 로컬 필터에는 다음 poll 에서 반영된다.
+	 */
+	public void revoke(String jti, Instant expiresAt) {
+		if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+			return;
+		}
+		redisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+			"jti", jti,
+			"exp", Long.toString(expiresAt.getEpochSecond())
+		)).withStreamKey(streamKey));
+
+		String minId = Instant.now().minus(window).toEpochMilli() + "-0";
+		redisTemplate.execute((RedisCallback<Object>) connection ->
+			connection.execute("XTRIM", raw(streamKey), raw("MINID"), raw("~"), raw(minId)));
+	}
+
+	public boolean isRevoked(String jti, Instant expiresAt) {
+		return jti != null && expiresAt != null && filter.mightContain(jti, expiresAt.getEpochSecond());
+	}
+
+	@Scheduled(fixedDelayString = "${auth.revocation.poll-interval:PT1S}")
+	public void poll() {
+		try {
+			List<MapRecord<String, Object, Object>> records;
+			do {
+				records = read(version);
+				apply(records);
+			} while (records.size() >= readBatchSize);
+			filter.expire(Instant.now().getEpochSecond());
+		} catch (Exception e) {
+			log.warn("폐기 스트림 읽기 실패, 다음 주기에 다시 시도합니다: {}", e.toString());
+		}
+	}
+
+	public Snapshot snapshot() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		String snapshotVersion;
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			synchronized (filter) {
+				snapshotVersion = version;
+				filter.writeTo(out, snapshotVersion);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new Snapshot(snapshotVersion, bytes.toByteArray());
+	}
+
+	/**
+	 * since 이후의 폐기 엔트리. 형식(big-endian): int magic "RVD1", UTF version, int count,
+	 * 그리고 엔트리마다 long exp(epoch seconds) + UTF jti. 한 번에 read-batch-size 개까지 담기므로
+	 * count 가 그보다 작아질 때까지 돌려받은 version 으로 이어서 요청하면 된다.
+	 */
+	public byte[] delta(String since) {
+		if (since == null || !STREAM_ID.matcher(since).matches()) {
+			throw new GeneralException(UserErrorStatus.INVALID_REVOCATION_VERSION);
+		}
+		List<MapRecord<String, Object, Object>> records = read(since);
+		String latest = records.isEmpty() ? since : records.get(records.size() - 1).getId().getValue();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(DELTA_MAGIC);
+			out.writeUTF(latest);
+			out.writeInt(records.size());
+			for (MapRecord<String, Object, Object> record : records) {
+				out.writeLong(Long.parseLong(record.getValue().get("exp").toString()));
+				out.writeUTF(record.getValue().get("jti").toString());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public String currentVersion() {
+		synchronized (filter) {
+			return version;
+		}
+	}
+
+	private List<MapRecord<String, Object, Object>> read(String after) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+			StreamReadOptions.empty().count(readBatchSize),
+			StreamOffset.create(streamKey, ReadOffset.from(after)));
+		return records == null ? List.of() : records;
+	}
+
+	private void apply(List<MapRecord<String, Object, Object>> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+		long now = Instant.now().getEpochSecond();
+		synchronized (filter) {
+			for (MapRecord<String, Object, Object> record : records) {
+				Object jti = record.getValue().get("jti");
+				Object exp = record.getValue().get("exp");
+				if (jti != null && exp != null && Long.parseLong(exp.toString()) > now) {
+					filter.add(jti.toString(), Long.parseLong(exp.toString()));
+				}
+			}
+			version = records.get(records.size() - 1).getId().getValue();
+		}
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public record Snapshot(String version, byte[] body) {
+	}
+}
@@ -6,19 +6,22 @@ import java.util.concurrent.TimeUnit;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import app.auth.model.repository.SessionKeys;
+import app.auth.model.repository.UserCredentials;
 import app.auth.model.repository.UserRepository;
 import app.auth.model.dto.request.LoginRequest;
 import app.auth.model.dto.response.LoginResponse;
-import app.auth.model.entity.User;
 import app.auth.status.UserErrorStatus;
 import app.global.apiPayload.code.status.ErrorStatus;
 import app.global.apiPayload.exception.GeneralException;
 import app.global.jwt.AccessTokenProvider;
 import app.global.jwt.JwtTokenProvider;
+import app.global.metrics.AuthMetrics;
 import app.global.util.PiiMasker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,38 +36,47 @@ public class AuthService {
 	private final PasswordEncoder passwordEncoder;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RedisTemplate<String, String> redisTemplate;
-	private static final String REFRESH_TOKEN_PREFIX = "RT:";
 	private final AccessTokenProvider accessTokenProvider;
+	private final AccessTokenRevocationService accessTokenRevocationService;
+	private final AuthMetrics authMetrics;
 
-	@Transactional
 	public LoginResponse login(LoginRequest request) {
-		log.debug("로그인 요청 수신 - username: {}", PiiMasker.mask(request.getUsername()));
-
-		User user = userRepository.findByUsername(request.getUsername())
-			.orElseThrow(() -> {
-				log.warn("로그인 실패 - 존재하지 않는 사용자: {}", PiiMasker.mask(request.getUsername()));
-				return new GeneralException(ErrorStatus.USER_NOT_FOUND);
-			});
-
-		if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-			log.warn("로그인 실패 - 잘못된 비밀번호, username: {}", PiiMasker.mask(request.getUsername()));
+		log.debug("로그인 요청 수신 - username: {}", PiiMasker.lazy(request.getUsername()));
+
+		UserCredentials user = authMetrics.record(AuthMetrics.LOGIN_STAGE,
+			() -> userRepository.findCredentialsByUsername(request.getUsername())
+				.orElseThrow(() -> {
+					log.warn("로그인 실패 - 존재하지 않는 사용자: {}", PiiMasker.lazy(request.getUsername()));
+					return new GeneralException(ErrorStatus.USER_NOT_FOUND);
+				}), "stage", "user_lookup");
+
+		boolean passwordMatches = authMetrics.recordWithOutcome(AuthMetrics.LOGIN_STAGE,
+			matches -> matches ? AuthMetrics.SUCCESS : AuthMetrics.FAILURE,
+			() -> passwordEncoder.matches(request.getPassword(), user.getPassword()),
+			"stage", "password_match");
+		if (!passwordMatches) {
+			log.warn("로그인 실패 - 잘못된 비밀번호, username: {}", PiiMasker.lazy(request.getUsername()));
 			throw new GeneralException(UserErrorStatus.INVALID_PASSWORD);
 		}
 
 		String roles = user.getUserRole().name();
 
-		String accessToken = accessTokenProvider.createAccessToken(
+		String accessToken = authMetrics.record(AuthMetrics.LOGIN_STAGE, () -> accessTokenProvider.createAccessToken(
 			user.getUserId().toString(), roles
-		);
-		String refreshToken = accessTokenProvider.createRefreshToken();
+		), "stage", "access_token_sign");
+		String refreshToken = authMetrics.record(AuthMetrics.LOGIN_STAGE, accessTokenProvider::createRefreshToken,
+			"stage", "refresh_token_sign");
 
 		try {
-			redisTemplate.opsForValue().set(
-				REFRESH_TOKEN_PREFIX + user.getUserId(),
-				refreshToken,
-				jwtTokenProvider.getRefreshTokenValidityMs(),
-				TimeUnit.MILLISECONDS
-			);
+			authMetrics.record(AuthMetrics.LOGIN_STAGE, () -> {
+				redisTemplate.opsForValue().set(
+					SessionKeys.refreshToken(user.getUserId().toString()),
+					refreshToken,
+					jwtTokenProvider.getRefreshTokenValidityMs(),
+					TimeUnit.MILLISECONDS
+				);
+				return null;
+			}, "stage", "redis_write");
 			log.debug("Redis에 refresh token 저장 완료 - userId: {}", user.getUserId());
 		} catch (Exception e) {
 			log.error("Redis 저장 중 오류 발생 - userId: {}", user.getUserId(), e);
@@ -89,14 +101,18 @@ public class AuthService {
 		}
 
 		String userId = authentication.getName();
-		String refreshTokenKey = REFRESH_TOKEN_PREFIX + userId;
+		String refreshTokenKey = SessionKeys.refreshToken(userId);
 
-		Boolean hasKey = redisTemplate.hasKey(refreshTokenKey);
-		if (hasKey != null && hasKey) {
-			redisTemplate.delete(refreshTokenKey);
+		Boolean unlinked = redisTemplate.unlink(refreshTokenKey);
+		if (Boolean.TRUE.equals(unlinked)) {
 			log.info("로그아웃 처리 완료: 사용자 ID '{}'의 Refresh Token이 삭제되었습니다.", userId);
 		} else {
 			log.warn("로그아웃 시도: 사용자 ID '{}'의 Refresh Token을 찾을 수 없습니다.", userId);
 		}
+
+		if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+			accessTokenRevocationService.revoke(jwtAuthentication.getToken().getId(),
+				jwtAuthentication.getToken().getExpiresAt());
+		}
 	}
 }
\ No newline at end of file
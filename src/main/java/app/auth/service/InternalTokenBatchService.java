@@ -0,0 +1,173 @@
+package app.auth.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.request.InternalTokenBatchRequest;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 (user_id, user_role) 에 대한 내부 토큰을 코어 수만큼의 서명 스레드로 병렬 발급하고, 완료되는 순서대로 JSON Lines 로 흘려보낸다.
+ * 각 줄에는 요청 목록에서의 위치(index)가 들어 있어 호출 측이 순서를 맞출 수 있다.
+ * 서명 큐는 queue-capacity 로 제한되며, 남은 자리가 요청 크기보다 작으면 스트리밍 전에 503 으로 거절한다.
+ */
+@Slf4j
+@Service
+public class InternalTokenBatchService {
+
+	private final OAuth2TokenService oAuth2TokenService;
+	private final ObjectMapper objectMapper;
+	private final ThreadPoolExecutor signingExecutor;
+
+	@Value("${auth.internal-token.batch.max-size:5000}")
+	private int maxBatchSize = 5000;
+
+	public InternalTokenBatchService(OAuth2TokenService oAuth2TokenService, ObjectMapper objectMapper,
+		@Value("${auth.internal-token.batch.parallelism:0}") int parallelism,
+		@Value("${auth.internal-token.batch.queue-capacity:10000}") int queueCapacity) {
+		this.oAuth2TokenService = oAuth2TokenService;
+		this.objectMapper = objectMapper;
+
+		int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		AtomicInteger sequence = new AtomicInteger();
+		this.signingExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+				Thread thread = new Thread(runnable, "token-signer-" + sequence.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * 응답 스트림을 열기 전에 호출해야 한다. 스트리밍이 시작된 뒤에는 오류 상태 코드를 돌려줄 수 없다.
+	 */
+	public void validateBatchSize(List<InternalTokenBatchRequest.Item> items) {
+		if (items.size() > maxBatchSize) {
+			throw new GeneralException(UserErrorStatus.TOKEN_BATCH_TOO_LARGE);
+		}
+		if (signingExecutor.getQueue().remainingCapacity() < items.size()) {
+			log.warn("서명 큐가 가득 차 일괄 발급을 거절합니다 - requested: {}, queued: {}", items.size(),
+				signingExecutor.getQueue().size());
+			throw new GeneralException(UserErrorStatus.TOKEN_BATCH_BUSY);
+		}
+	}
+
+	/**
+	 * clientId 는 HTTP Basic 으로 인증된 호출 서비스이며, 발급되는 모든 토큰에 실린다.
+	 * 쓰기가 실패하면(클라이언트 연결 끊김 등) 아직 끝나지 않은 발급을 취소하고 큐에서 치운다.
+	 * 검증 이후 다른 요청이 큐를 채워 제출이 거절되면, 남은 항목은 temporarily_unavailable 줄로 내려간다.
+	 */
+	public void writeBatch(String clientId, List<InternalTokenBatchRequest.Item> items, OutputStream out)
+		throws IOException {
+		CompletionService<Map<String, Object>> completionService = new ExecutorCompletionService<>(signingExecutor);
+		List<Future<Map<String, Object>>> futures = new ArrayList<>(items.size());
+		boolean completed = false;
+		try {
+			for (int i = 0; i < items.size(); i++) {
+				int index = i;
+				InternalTokenBatchRequest.Item item = items.get(i);
+				try {
+					futures.add(completionService.submit(() -> issue(clientId, index, item)));
+				} catch (RejectedExecutionException e) {
+					log.warn("서명 큐가 가득 차 남은 항목을 거절합니다 - submitted: {}, requested: {}", futures.size(),
+						items.size());
+					break;
+				}
+			}
+
+			int failed = 0;
+			for (int i = 0; i < items.size(); i++) {
+				Map<String, Object> line = i < futures.size() ? take(completionService) : rejected(i, items.get(i));
+				if (line.containsKey("error")) {
+					failed++;
+				}
+				out.write(objectMapper.writeValueAsBytes(line));
+				out.write('\n');
+				if (i % 100 == 99) {
+					out.flush();
+				}
+			}
+			out.flush();
+			completed = true;
+			log.info("내부 토큰 일괄 발급 완료 - clientId: {}, requested: {}, failed: {}", clientId, items.size(), failed);
+		} finally {
+			if (!completed) {
+				cancel(futures);
+			}
+		}
+	}
+
+	/**
+	 * 뒤에서부터 취소해야 앞의 작업이 인터럽트된 직후 워커가 아직 취소되지 않은 다음 작업을 집어 가지 않는다.
+	 */
+	private void cancel(List<Future<Map<String, Object>>> futures) {
+		for (int i = futures.size() - 1; i >= 0; i--) {
+			futures.get(i).cancel(true);
+		}
+		signingExecutor.purge();
+	}
+
+	private static Map<String, Object> rejected(int index, InternalTokenBatchRequest.Item item) {
+		Map<String, Object> line = new LinkedHashMap<>();
+		line.put("index", index);
+		line.put("user_id", item.getUserId());
+		line.put("error", "temporarily_unavailable");
+		return line;
+	}
+
+	private Map<String, Object> issue(String clientId, int index, InternalTokenBatchRequest.Item item) {
+		Map<String, Object> line = new LinkedHashMap<>();
+		line.put("index", index);
+		line.put("user_id", item.getUserId());
+		try {
+			line.putAll(oAuth2TokenService.issueTokenForClientCredentials(clientId, item.getUserId(),
+				item.getUserRole()));
+		} catch (IllegalArgumentException e) {
+			line.put("error", "invalid_request");
+			line.put("error_description", e.getMessage());
+		} catch (RuntimeException e) {
+			log.warn("내부 토큰 발급 실패 - index: {}, error: {}", index, e.toString());
+			line.put("error", "server_error");
+		}
+		return line;
+	}
+
+	private static Map<String, Object> take(CompletionService<Map<String, Object>> completionService)
+		throws IOException {
+		try {
+			Future<Map<String, Object>> future = completionService.take();
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Token batch interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Token batch failed", e.getCause());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		signingExecutor.shutdownNow();
+	}
+}
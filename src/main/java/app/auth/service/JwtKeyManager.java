@@ -1,6 +1,10 @@
 package app.auth.service;
 
 import app.auth.model.entity.KeyEntry;
+import app.global.jwt.KmsRegionRouter;
+import app.global.jfr.JwksRegenerationEvent;
+import app.global.jfr.KeyRotationEvent;
+import app.global.metrics.AuthMetrics;
 import jakarta.annotation.PostConstruct;
 import java.security.KeyFactory;
 import java.security.KeyPair;
@@ -14,8 +18,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,7 +31,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.services.kms.KmsClient;
 import software.amazon.awssdk.services.kms.model.GetPublicKeyRequest;
 import java.security.Signature;
 import software.amazon.awssdk.core.SdkBytes;
@@ -42,20 +47,26 @@ public class JwtKeyManager {
 
   private final boolean kmsEnabled;
   private final String kmsKeyIdConfigured;
-  private final KmsClient kmsClient;
-  private volatile RSAPublicKey kmsPublicKey;
+  private final KmsRegionRouter kmsRegionRouter;
+  private final AuthMetrics authMetrics;
   private volatile String activeKid;
 
   private final Map<String, KeyEntry> localKeys = new ConcurrentHashMap<>();
 
+  public JwtKeyManager(boolean kmsEnabled, String kmsKeyId, Optional<KmsRegionRouter> kmsRegionRouter) {
+    this(kmsEnabled, kmsKeyId, kmsRegionRouter, AuthMetrics.detached());
+  }
+
   @Autowired
   public JwtKeyManager(
       @Value("${kms.jwt.enabled}") boolean kmsEnabled,
       @Value("${kms.jwt.key-id:}") String kmsKeyId,
-      Optional<KmsClient> kmsClient) {
+      Optional<KmsRegionRouter> kmsRegionRouter,
+      AuthMetrics authMetrics) {
     this.kmsEnabled = kmsEnabled;
     this.kmsKeyIdConfigured = kmsKeyId;
-    this.kmsClient = kmsClient.orElse(null);
+    this.kmsRegionRouter = kmsRegionRouter.orElse(null);
+    this.authMetrics = authMetrics;
   }
 
   @PostConstruct
@@ -69,22 +80,38 @@ public class JwtKeyManager {
     }
   }
 
+  /**
+   * 리전마다 공개키를 읽는다. 일부 리전이 실패해도 나머지로 시작하고, 실패한 리전은 다음 refresh 때 다시 시도한다.
+   * 활성 kid 는 설정 순서상 가장 앞에 있는 로드된 리전의 kid 다.
+   */
   private void initKms() {
-    if (kmsClient == null) {
-      throw new IllegalStateException("KMS mode is enabled, but KmsClient is not available.");
+    if (kmsRegionRouter == null) {
+      throw new IllegalStateException("KMS mode is enabled, but no KMS region is configured. keyId=" + kmsKeyIdConfigured);
     }
-    try {
-      var resp = kmsClient.getPublicKey(GetPublicKeyRequest.builder()
-          .keyId(kmsKeyIdConfigured).build());
-      this.activeKid = resp.keyId();
+    for (var region : kmsRegionRouter.regions()) {
+      try {
+        loadKmsPublicKey(region);
+      } catch (RuntimeException e) {
+        log.warn("KMS public key load failed. region={} error={}", region.name(), e.toString());
+      }
+    }
+    this.activeKid = kmsRegionRouter.regions().stream()
+        .map(KmsRegionRouter.Region::kid)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("Failed to load public key from KMS in any region"));
+    this.cachedJwks = null;
+  }
 
-      byte[] publicKeyBytes = resp.publicKey().asByteArray();
-      var keySpec = new X509EncodedKeySpec(publicKeyBytes);
+  private void loadKmsPublicKey(KmsRegionRouter.Region region) {
+    var resp = kmsRegionRouter.callIn(region, r -> authMetrics.recordKmsCall(AuthMetrics.KMS_PUBLIC_KEY, r.keyId(),
+        () -> r.client().getPublicKey(GetPublicKeyRequest.builder().keyId(r.keyId()).build()), "region", r.name()));
+    try {
+      var keySpec = new X509EncodedKeySpec(resp.publicKey().asByteArray());
       var keyFactory = KeyFactory.getInstance("RSA");
-      this.kmsPublicKey = (RSAPublicKey) keyFactory.generatePublic(keySpec);
-      this.cachedJwks = null;
-
-      log.info("KMS public key loaded. kid={}", this.activeKid);
+      var publicKey = (RSAPublicKey) keyFactory.generatePublic(keySpec);
+      region.publish(new KmsRegionRouter.PublishedKey(resp.keyId(), publicKey));
+      log.info("KMS public key loaded. region={} kid={}", region.name(), resp.keyId());
     } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
       throw new IllegalStateException("Failed to load public key from KMS", e);
     }
@@ -100,8 +127,8 @@ public class JwtKeyManager {
 
   public RSAPublicKey getActivePublicKey() {
     if (kmsEnabled) {
-      if (kmsPublicKey == null) throw new IllegalStateException("KMS public key not initialized");
-      return kmsPublicKey;
+      return getPublicKeyById(activeKid)
+          .orElseThrow(() -> new IllegalStateException("KMS public key not initialized"));
     }
     var key = localKeys.get(activeKid);
     if (key == null) throw new IllegalStateException("No active local key");
@@ -112,12 +139,13 @@ public class JwtKeyManager {
     try {
       if (kmsEnabled) {
         var digest = sha256(message);
-        var signResp = kmsClient.sign(SignRequest.builder()
-            .keyId(activeKid)
-            .message(SdkBytes.fromByteArray(digest))
-            .messageType(MessageType.DIGEST)
-            .signingAlgorithm(SigningAlgorithmSpec.RSASSA_PKCS1_V1_5_SHA_256)
-            .build());
+        var signResp = kmsRegionRouter.call(r -> authMetrics.recordKmsCall(AuthMetrics.KMS_SIGN, r.keyId(),
+            () -> r.client().sign(SignRequest.builder()
+                .keyId(r.keyId())
+                .message(SdkBytes.fromByteArray(digest))
+                .messageType(MessageType.DIGEST)
+                .signingAlgorithm(SigningAlgorithmSpec.RSASSA_PKCS1_V1_5_SHA_256)
+                .build()), "region", r.name()));
         return signResp.signature().asByteArray();
       } else {
         var privateKey = localKeys.get(activeKid).keyPair().getPrivate();
@@ -144,14 +172,26 @@ public class JwtKeyManager {
     var cache = this.cachedJwks;
     if (cache != null) return cache;
 
+    JwksRegenerationEvent event = new JwksRegenerationEvent();
+    event.begin();
     List<Map<String, Object>> jwkList;
     if (kmsEnabled) {
-      jwkList = List.of(convertRsaPublicKeyToJwk(getActivePublicKey(), getActiveKid()));
+      // 어느 리전이 서명했든 검증할 수 있도록 로드된 모든 리전의 키를 싣는다.
+      var byKid = new LinkedHashMap<String, Map<String, Object>>();
+      for (var region : kmsRegionRouter.regions()) {
+        var key = region.publishedKey();
+        if (key != null) {
+          byKid.putIfAbsent(key.kid(), convertRsaPublicKeyToJwk(key.publicKey(), key.kid()));
+        }
+      }
+      jwkList = List.copyOf(byKid.values());
     } else {
       jwkList = getAllKeys().stream()
           .map(e -> convertRsaPublicKeyToJwk((RSAPublicKey) e.keyPair().getPublic(), e.kid()))
           .collect(Collectors.toList());
     }
+    event.keyCount = jwkList.size();
+    event.commit();
     return this.cachedJwks = Map.of("keys", jwkList);
   }
 
@@ -174,6 +214,8 @@ public class JwtKeyManager {
     if (kmsEnabled) {
       throw new UnsupportedOperationException("Local rotateKey is not allowed in KMS mode.");
     }
+    KeyRotationEvent event = new KeyRotationEvent();
+    event.begin();
     try {
       var gen = KeyPairGenerator.getInstance("RSA");
       gen.initialize(2048);
@@ -181,8 +223,12 @@ public class JwtKeyManager {
       String kid = UUID.randomUUID().toString();
       KeyEntry newKey = new KeyEntry(kid, keyPair, Instant.now());
       this.localKeys.put(kid, newKey);
+      event.mode = "local";
+      event.previousKid = this.activeKid;
+      event.kid = kid;
       this.activeKid = kid;
       this.cachedJwks = null;
+      event.commit();
       return newKey;
     } catch (NoSuchAlgorithmException e) {
       throw new IllegalStateException("RSA key generation failed", e);
@@ -198,13 +244,31 @@ public class JwtKeyManager {
 
   public Optional<KeyEntry> getKeyById(String kid) {
     if (kmsEnabled) {
-      return this.activeKid != null && this.activeKid.equals(kid)
-          ? Optional.of(new KeyEntry(this.activeKid, null, null))
-          : Optional.empty();
+      return getPublicKeyById(kid).map(publicKey -> new KeyEntry(kid, null, null));
     }
     return Optional.ofNullable(localKeys.get(kid));
   }
 
+  /**
+   * 토큰 검증용 공개키. KMS 모드에서는 리전별 현재 키를, 로컬 모드에서는 키링에 남아 있는 모든 키를 찾는다.
+   */
+  public Optional<RSAPublicKey> getPublicKeyById(String kid) {
+    if (kid == null) {
+      return Optional.empty();
+    }
+    if (kmsEnabled) {
+      for (var region : kmsRegionRouter.regions()) {
+        var key = region.publishedKey();
+        if (key != null && kid.equals(key.kid())) {
+          return Optional.of(key.publicKey());
+        }
+      }
+      return Optional.empty();
+    }
+    return Optional.ofNullable(localKeys.get(kid))
+        .map(entry -> (RSAPublicKey) entry.keyPair().getPublic());
+  }
+
   public Collection<KeyEntry> getAllKeys() {
     if (kmsEnabled) {
       throw new UnsupportedOperationException("Key collection is not available in KMS mode.");
@@ -215,11 +279,17 @@ public class JwtKeyManager {
   @Scheduled(fixedDelayString = "PT5M")
   public void refreshKmsPublicKey() {
     if (!kmsEnabled) return;
+    KeyRotationEvent event = new KeyRotationEvent();
+    event.begin();
     try {
       var oldKid = this.activeKid;
       initKms();
       if (!this.activeKid.equals(oldKid)) {
         log.info("KMS key rotated. oldKid={} newKid={}", oldKid, this.activeKid);
+        event.mode = "kms";
+        event.previousKid = oldKid;
+        event.kid = this.activeKid;
+        event.commit();
       }
     } catch (Exception e) {
       log.warn("KMS public key refresh failed: {}", e.toString());
@@ -1,9 +1,19 @@
 package app.auth.service;
 
 import app.global.jwt.JwtTokenProvider;
+import app.global.metrics.AuthMetrics;
 import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 
 @Service
@@ -11,8 +21,40 @@ import java.util.Map;
 public class OAuth2TokenService {
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtKeyManager jwtKeyManager;
+	private final AuthMetrics authMetrics;
+
+	/**
+	 * (clientId, userId, userRole) 별로 마지막에 발급한 내부 토큰. 같은 키로 동시에 들어온 요청은 하나의 future 를 기다리므로 서명은 한 번만 일어난다.
+	 * 접근 순서를 유지하는 LinkedHashMap 이라 가득 차면 가장 오래 쓰이지 않은 항목 하나만 내보낸다. 재사용할 수 없게 된 토큰은 읽을 때 치운다.
+	 * 조회와 등록만 lock 안에서 하고 서명은 lock 밖에서 한다.
+	 */
+	private final Map<IssuedTokenKey, CompletableFuture<IssuedToken>> issuedTokens = new LinkedHashMap<>(16, 0.75f,
+		true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IssuedTokenKey, CompletableFuture<IssuedToken>> eldest) {
+			return size() > cacheMaxEntries;
+		}
+	};
 
-	public Map<String, Object> issueTokenForClientCredentials(String userId,String userRole) {
+	@Value("${auth.internal-token.cache.enabled:true}")
+	private boolean cacheEnabled = true;
+
+	@Value("${auth.internal-token.cache.max-entries:10000}")
+	private int cacheMaxEntries = 10000;
+
+	/**
+	 * 남은 수명이 전체 수명의 이 비율보다 클 때만 캐시된 토큰을 돌려준다.
+	 */
+	@Value("${auth.internal-token.cache.min-remaining-fraction:0.5}")
+	private double minRemainingFraction = 0.5;
+
+	public Map<String, Object> issueTokenForClientCredentials(String clientId, String userId, String userRole) {
+		return authMetrics.record("auth.oauth2.token", () -> issueInternalToken(clientId, userId, userRole),
+			"grant_type", "client_credentials");
+	}
+
+	private Map<String, Object> issueInternalToken(String clientId, String userId, String userRole) {
 		if (userId == null || userId.isBlank()) {
 			throw new IllegalArgumentException("Missing required parameter: userId");
 		}
@@ -20,13 +62,90 @@ public class OAuth2TokenService {
 			throw new IllegalArgumentException("Missing required parameter: userRole");
 		}
 
-		String accessToken = jwtTokenProvider.createInternalToken(userId,userRole);
-		long expiresIn = jwtTokenProvider.getInternalTokenValidityMs() / 1000;
+		// JWT 의 iat/exp 는 초 단위이므로 expires_in 도 초 단위로 자른 현재 시각 기준으로 계산한다.
+		Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		IssuedToken token = cacheEnabled
+			? cachedOrIssue(new IssuedTokenKey(clientId, userId, userRole), now)
+			: issue(clientId, userId, userRole, now);
+		long expiresIn = Math.max(0, token.expiresAt().getEpochSecond() - now.getEpochSecond());
 
 		return Map.of(
-			"access_token", accessToken,
+			"access_token", token.accessToken(),
 			"token_type", "Bearer",
 			"expires_in", expiresIn
 		);
 	}
+
+	private IssuedToken cachedOrIssue(IssuedTokenKey key, Instant now) {
+		while (true) {
+			CompletableFuture<IssuedToken> future;
+			CompletableFuture<IssuedToken> created = null;
+			synchronized (issuedTokens) {
+				future = issuedTokens.get(key);
+				if (future == null) {
+					created = new CompletableFuture<>();
+					issuedTokens.put(key, created);
+				}
+			}
+
+			if (created != null) {
+				authMetrics.increment("auth.internal_token.cache", "result", "miss");
+				try {
+					IssuedToken token = issue(key.clientId(), key.userId(), key.userRole(), now);
+					created.complete(token);
+					return token;
+				} catch (RuntimeException e) {
+					remove(key, created);
+					created.completeExceptionally(e);
+					throw e;
+				}
+			}
+
+			IssuedToken token = await(future);
+			if (isReusable(token, now)) {
+				authMetrics.increment("auth.internal_token.cache", "result", "hit");
+				return token;
+			}
+			remove(key, future);
+		}
+	}
+
+	private void remove(IssuedTokenKey key, CompletableFuture<IssuedToken> future) {
+		synchronized (issuedTokens) {
+			issuedTokens.remove(key, future);
+		}
+	}
+
+	private IssuedToken issue(String clientId, String userId, String userRole, Instant issuedAt) {
+		String kid = jwtKeyManager.getActiveKid();
+		String accessToken = jwtTokenProvider.createInternalToken(clientId, userId, userRole, issuedAt);
+		return new IssuedToken(accessToken, kid, issuedAt,
+			issuedAt.plusMillis(jwtTokenProvider.getInternalTokenValidityMs()));
+	}
+
+	private boolean isReusable(IssuedToken token, Instant now) {
+		if (!Objects.equals(token.kid(), jwtKeyManager.getActiveKid())) {
+			return false;
+		}
+		long lifetime = token.expiresAt().toEpochMilli() - token.issuedAt().toEpochMilli();
+		long remaining = token.expiresAt().toEpochMilli() - now.toEpochMilli();
+		return remaining > lifetime * minRemainingFraction;
+	}
+
+	private static IssuedToken await(CompletableFuture<IssuedToken> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record IssuedTokenKey(String clientId, String userId, String userRole) {
+	}
+
+	private record IssuedToken(String accessToken, String kid, Instant issuedAt, Instant expiresAt) {
+	}
 }
@@ -1,19 +1,34 @@
 package app.auth.service;
 
+import app.auth.model.dto.response.SessionRevokeResponse;
+import app.auth.model.dto.response.TokenMemoryReport;
 import app.auth.model.entity.RefreshToken;
 import app.auth.model.repository.RefreshTokenRepository;
+import app.auth.model.repository.SessionKeys;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
 import app.global.jwt.JwtTokenProvider;
+import app.global.metrics.AuthMetrics;
+import app.global.redis.RedisSlots;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
@@ -21,49 +36,168 @@ public class RefreshTokenService {
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RedisTemplate<String, String> redisTemplate;
-	private static final String USER_TOKENS_PREFIX = "user_tokens:";
+	private final AuthMetrics authMetrics;
+
+	@Value("${auth.session.revoke.chunk-size:500}")
+	private int revokeChunkSize;
+
+	@Value("${auth.session.revoke.max-user-ids:10000}")
+	private int revokeMaxUserIds;
 
 
 	@Transactional
 	public String createRefreshToken(String userId) {
-		String token = UUID.randomUUID().toString();
-		long refreshTokenValidityMs = jwtTokenProvider.getRefreshTokenValidityMs();
-		long ttlInSeconds = TimeUnit.MILLISECONDS.toSeconds(refreshTokenValidityMs);
+		return authMetrics.record(AuthMetrics.REFRESH_TOKEN_OPERATION, () -> {
+			String token = SessionKeys.newToken(userId, UUID.randomUUID().toString());
+			long refreshTokenValidityMs = jwtTokenProvider.getRefreshTokenValidityMs();
+			long ttlInSeconds = TimeUnit.MILLISECONDS.toSeconds(refreshTokenValidityMs);
 
-		RefreshToken refreshToken = new RefreshToken(token, userId, ttlInSeconds);
-		refreshTokenRepository.save(refreshToken);
+			RefreshToken refreshToken = new RefreshToken(token, userId, ttlInSeconds);
+			refreshTokenRepository.save(refreshToken);
 
-		String userTokensKey = USER_TOKENS_PREFIX + userId;
-		redisTemplate.opsForSet().add(userTokensKey, token);
-		redisTemplate.expire(userTokensKey, ttlInSeconds, TimeUnit.SECONDS);
+			String userTokensKey = SessionKeys.userTokens(userId);
+			redisTemplate.opsForSet().add(userTokensKey, token);
+			redisTemplate.expire(userTokensKey, ttlInSeconds, TimeUnit.SECONDS);
 
-		return token;
+			return token;
+		}, "operation", "create");
 	}
 
 	@Transactional
 	public Optional<String> validateAndRotate(String token) {
-		return refreshTokenRepository.findById(token)
-			.map(foundToken -> {
-				String userId = foundToken.getUserId();
-
-				refreshTokenRepository.delete(foundToken);
+		return authMetrics.recordWithOutcome(AuthMetrics.REFRESH_TOKEN_OPERATION,
+			rotated -> rotated.isPresent() ? AuthMetrics.SUCCESS : AuthMetrics.FAILURE,
+			() -> refreshTokenRepository.findAndDelete(token)
+				.map(foundToken -> {
+					String userId = foundToken.getUserId();
 
-				redisTemplate.opsForSet().remove(USER_TOKENS_PREFIX + userId, token);
+					redisTemplate.opsForSet().remove(SessionKeys.userTokens(userId), token);
 
-				return userId;
-			});
+					return userId;
+				}), "operation", "rotate");
 	}
 
 	@Transactional
 	public void revokeRefreshTokensByUserId(String userId) {
-		String userTokensKey = USER_TOKENS_PREFIX + userId;
+		long unlinked = authMetrics.record(AuthMetrics.REFRESH_TOKEN_OPERATION,
+			() -> revokeRefreshTokensByUserIds(List.of(userId)), "operation", "revoke");
+		log.debug("사용자 세션 전체 폐기 - userId: {}, unlinkedKeys: {}", userId, unlinked);
+	}
+
+	/**
+	 * 관리자 일괄 세션 폐기. 요청된 userId 를 chunk 단위로 나누어 처리하며,
+	 * chunk 하나당 Redis 왕복은 {@link #revokeRefreshTokensByUserIds(Collection)} 와 같이 2회이다.
+	 */
+	public SessionRevokeResponse revokeSessionsInBulk(Collection<String> userIds) {
+		return authMetrics.record(AuthMetrics.REFRESH_TOKEN_OPERATION, () -> revokeInChunks(userIds),
+			"operation", "revoke_bulk");
+	}
+
+	private SessionRevokeResponse revokeInChunks(Collection<String> userIds) {
+		List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+		if (distinctIds.size() > revokeMaxUserIds) {
+			throw new GeneralException(UserErrorStatus.REVOKE_REQUEST_TOO_LARGE);
+		}
+
+		int chunkSize = Math.max(1, revokeChunkSize);
+		long unlinkedKeys = 0;
+		int chunks = 0;
+		for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+			List<String> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+			unlinkedKeys += revokeRefreshTokensByUserIds(chunk);
+			chunks++;
+		}
+
+		log.info("세션 일괄 폐기 완료 - users: {}, chunks: {}, unlinkedKeys: {}", distinctIds.size(), chunks,
+			unlinkedKeys);
 
-		Set<String> tokenIds = redisTemplate.opsForSet().members(userTokensKey);
+		return SessionRevokeResponse.builder()
+			.requestedUsers(distinctIds.size())
+			.chunks(chunks)
+			.unlinkedKeys(unlinkedKeys)
+			.build();
+	}
+
+	/**
+	 * 첫 번째 파이프라인에서 사용자별 토큰 인덱스(SMEMBERS)를 모두 읽고,
+	 * 두 번째 파이프라인에서 토큰 레코드, 인덱스 세트, RT 키를 slot 별 UNLINK 로 제거한다.
+	 * 태그가 붙은 키는 사용자마다 한 slot 에 모이고, 태그가 없는 레거시 키와 p_refresh_token 은 각자의 slot 으로 간다.
+	 * legacy-fallback 이 켜져 있으면 해시 태그가 없는 이전 인덱스(user_tokens:{id} 이전의 user_tokens:id)와 RT 키도 함께 읽고 지운다.
+	 * 세션 수와 관계없이 Redis 왕복은 2회로 고정된다.
+	 */
+	long revokeRefreshTokensByUserIds(Collection<String> userIds) {
+		if (userIds.isEmpty()) {
+			return 0L;
+		}
+		List<String> ids = List.copyOf(userIds);
+		boolean legacy = refreshTokenRepository.isLegacyFallbackEnabled();
+
+		List<Object> memberSets = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (String userId : ids) {
+				for (String indexKey : indexKeys(userId, legacy)) {
+					connection.setCommands().sMembers(rawKey(indexKey));
+				}
+			}
+			return null;
+		});
+
+		List<byte[]> keys = new ArrayList<>();
+		List<byte[]> tokenIds = new ArrayList<>();
+		int result = 0;
+		for (String userId : ids) {
+			for (String indexKey : indexKeys(userId, legacy)) {
+				keys.add(rawKey(indexKey));
+				Object members = result < memberSets.size() ? memberSets.get(result) : null;
+				result++;
+				if (members instanceof Collection<?> tokens) {
+					for (Object token : tokens) {
+						refreshTokenRepository.recordKeys(token.toString()).forEach(key -> keys.add(rawKey(key)));
+						tokenIds.add(rawKey(token.toString()));
+					}
+				}
+			}
+			keys.add(rawKey(SessionKeys.refreshToken(userId)));
+			if (legacy) {
+				keys.add(rawKey(SessionKeys.legacyRefreshToken(userId)));
+			}
+		}
 
-		if (tokenIds != null && !tokenIds.isEmpty()) {
-			refreshTokenRepository.deleteAllById(tokenIds);
+		List<byte[][]> slotGroups = RedisSlots.groupBySlot(keys);
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (byte[][] slotKeys : slotGroups) {
+				connection.keyCommands().unlink(slotKeys);
+			}
+			if (legacy && !tokenIds.isEmpty()) {
+				connection.setCommands().sRem(rawKey(refreshTokenRepository.legacyIndexKey()),
+					tokenIds.toArray(new byte[0][]));
+			}
+			return null;
+		});
+
+		long unlinked = 0;
+		for (int i = 0; i < slotGroups.size() && i < results.size(); i++) {
+			if (results.get(i) instanceof Long count) {
+				unlinked += count;
+			}
 		}
+		return unlinked;
+	}
+
+	private static List<String> indexKeys(String userId, boolean legacy) {
+		return legacy
+			? List.of(SessionKeys.userTokens(userId), SessionKeys.legacyUserTokens(userId))
+			: List.of(SessionKeys.userTokens(userId));
+	}
+
+	public int migrateLegacyTokens(int batchSize) {
+		return refreshTokenRepository.migrateLegacyTokens(batchSize);
+	}
+
+	public TokenMemoryReport memoryReport(int sampleSize) {
+		return refreshTokenRepository.memoryReport(sampleSize);
+	}
 
-		redisTemplate.delete(userTokensKey);
+	private static byte[] rawKey(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
 	}
-}
\ No newline at end of file
+}
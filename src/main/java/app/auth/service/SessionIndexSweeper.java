@@ -0,0 +1,399 @@
+package app.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import app.auth.model.repository.RefreshTokenRepository;
+import app.auth.model.repository.SessionKeys;
+import app.global.redis.RedisLock;
+import app.global.redis.RedisSlots;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ValueScanCursor;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * user_tokens:{tag} 세트와 레거시 p_refresh_token 인덱스에 남은, 레코드가 이미 만료된 멤버를 조금씩 정리한다.
+ * 한 tick 은 최대 max-members-per-tick 개의 멤버만 SSCAN 으로 읽고, SCAN 커서와 세트 안의 위치를 Redis 에 저장해 다음 tick 이 이어받는다.
+ * 클러스터 모드에서는 SCAN 이 노드 단위이므로 master 를 node id 순서로 하나씩 돌며, 커서에 노드 id 를 함께 저장한다.
+ * 락은 해제하지 않고 interval 동안 유지되므로 replica 수와 관계없이 interval 당 한 번만 스윕된다.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class SessionIndexSweeper {
+
+	private static final String LOCK_KEY = "lock:session-sweeper";
+	private static final String USER_TOKENS_CURSOR_KEY = "sweeper:user-tokens:cursor";
+	private static final String USER_TOKENS_PAGE_KEY = "sweeper:user-tokens:page";
+	private static final String PAGE_SEPARATOR = "\n";
+	private static final String LEGACY_INDEX_CURSOR_KEY = "sweeper:legacy-index:cursor";
+	private static final String INITIAL_CURSOR = "0";
+	private static final String NODE_CURSOR_SEPARATOR = ":";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final RedisLock lock;
+
+	@Value("${auth.session.sweeper.enabled:true}")
+	private boolean enabled;
+
+	@Value("${auth.session.sweeper.interval:PT30S}")
+	private Duration interval;
+
+	@Value("${auth.session.sweeper.scan-count:200}")
+	private int scanCount;
+
+	@Value("${auth.session.sweeper.max-members-per-tick:2000}")
+	private int maxMembersPerTick;
+
+	@Value("${REDIS_MODE:standalone}")
+	private String redisMode;
+
+	private final LongAdder sweeps = new LongAdder();
+	private final LongAdder prunedMembers = new LongAdder();
+	private final LongAdder unlinkedKeys = new LongAdder();
+	private final LongAdder reclaimedBytes = new LongAdder();
+
+	public SessionIndexSweeper(RedisTemplate<String, String> redisTemplate,
+		RefreshTokenRepository refreshTokenRepository) {
+		this.redisTemplate = redisTemplate;
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.lock = new RedisLock(redisTemplate, LOCK_KEY);
+	}
+
+	@Scheduled(fixedDelayString = "${auth.session.sweeper.interval:PT30S}",
+		initialDelayString = "${auth.session.sweeper.interval:PT30S}")
+	public void tick() {
+		if (!enabled) {
+			return;
+		}
+		if (!lock.tryAcquire(interval)) {
+			return;
+		}
+
+		try {
+			SweepReport report = sweepUserTokens();
+			if (refreshTokenRepository.isLegacyFallbackEnabled()) {
+				report = report.plus(sweepLegacyIndex());
+			}
+
+			sweeps.increment();
+			prunedMembers.add(report.prunedMembers());
+			unlinkedKeys.add(report.unlinkedKeys());
+			reclaimedBytes.add(report.reclaimedBytes());
+
+			if (report.prunedMembers() > 0 || report.unlinkedKeys() > 0) {
+				log.info("세션 인덱스 스윕 - scannedKeys: {}, prunedMembers: {}, unlinkedKeys: {}, reclaimedBytes: {}",
+					report.scannedKeys(), report.prunedMembers(), report.unlinkedKeys(), report.reclaimedBytes());
+			}
+		} catch (Exception e) {
+			log.warn("세션 인덱스 스윕 실패: {}", e.toString());
+		}
+	}
+
+	public SweepTotals totals() {
+		return new SweepTotals(sweeps.sum(), prunedMembers.sum(), unlinkedKeys.sum(), reclaimedBytes.sum());
+	}
+
+	/**
+	 * SCAN 한 페이지의 세트 키를 pending 으로 저장해 두고, 세트마다 SSCAN 으로 예산만큼만 읽는다.
+	 * 예산이 세트 중간에서 끝나면 그 세트의 SSCAN 커서를 함께 저장하므로 다음 tick 은 정확히 그 자리부터 이어간다.
+	 */
+	private SweepReport sweepUserTokens() {
+		List<String> state = redisTemplate.opsForValue().multiGet(List.of(USER_TOKENS_CURSOR_KEY, USER_TOKENS_PAGE_KEY));
+		String cursor = Optional.ofNullable(state == null ? null : state.get(0)).orElse(INITIAL_CURSOR);
+		PagePosition position = PagePosition.parse(state == null ? null : state.get(1));
+
+		if (position.pending().isEmpty()) {
+			ScanPage page = scanUserTokens(cursor);
+			cursor = page.nextCursor();
+			position = new PagePosition(INITIAL_CURSOR, new ArrayDeque<>(page.keys()));
+		}
+
+		Deque<String> pending = position.pending();
+		String setCursor = position.setCursor();
+		int budget = maxMembersPerTick;
+		SweepReport report = new SweepReport(0, 0, 0, 0);
+		while (budget > 0 && !pending.isEmpty()) {
+			// 한 라운드에 읽는 양이 남은 예산을 크게 넘지 않도록 세트 수를 정한다.
+			List<String> batch = pending.stream().limit(Math.max(1, budget / scanCount)).toList();
+			List<ValueScanCursor<byte[]>> pages = sscan(batch, setCursor, Math.min(scanCount, budget));
+
+			Map<String, List<String>> membersBySet = new LinkedHashMap<>();
+			long finishedSets = 0;
+			for (int i = 0; i < batch.size(); i++) {
+				ValueScanCursor<byte[]> page = pages.get(i);
+				List<String> members = page.getValues().stream().map(SessionIndexSweeper::str).toList();
+				membersBySet.put(batch.get(i), members);
+				budget -= members.size();
+				if (!page.isFinished()) {
+					setCursor = page.getCursor();
+					break;
+				}
+				pending.removeFirst();
+				setCursor = INITIAL_CURSOR;
+				finishedSets++;
+			}
+			report = report.plus(prune(membersBySet)).plus(new SweepReport(finishedSets, 0, 0, 0));
+		}
+
+		redisTemplate.opsForValue().multiSet(Map.of(
+			USER_TOKENS_CURSOR_KEY, cursor,
+			USER_TOKENS_PAGE_KEY, new PagePosition(setCursor, pending).format()));
+		return report;
+	}
+
+	private ScanPage scanUserTokens(String cursor) {
+		ScanArgs args = ScanArgs.Builder.matches(SessionKeys.userTokensPattern()).limit(scanCount);
+		return redisTemplate.execute((RedisCallback<ScanPage>) connection -> {
+			if (!"cluster".equalsIgnoreCase(redisMode)) {
+				KeyScanCursor<byte[]> page = await(async(connection).scan(ScanCursor.of(cursor), args));
+				return new ScanPage(page.isFinished() ? INITIAL_CURSOR : page.getCursor(), keys(page));
+			}
+			return scanMaster((RedisClusterConnection) connection, cursor, args);
+		});
+	}
+
+	/**
+	 * 저장된 커서가 가리키는 master 에서 SCAN 한 페이지를 읽는다. 그 노드를 다 읽으면 다음 master 의 처음을,
+	 * 마지막 master 까지 끝나면 초기 커서를 돌려준다. 커서의 노드가 토폴로지에서 사라졌으면 첫 master 부터 다시 시작한다.
+	 */
+	private ScanPage scanMaster(RedisClusterConnection connection, String cursor, ScanArgs args) {
+		List<String> masters = StreamSupport.stream(connection.clusterGetNodes().spliterator(), false)
+			.filter(RedisClusterNode::isMaster)
+			.map(RedisClusterNode::getId)
+			.sorted()
+			.toList();
+		if (masters.isEmpty()) {
+			return new ScanPage(INITIAL_CURSOR, List.of());
+		}
+
+		int separator = cursor.lastIndexOf(NODE_CURSOR_SEPARATOR);
+		int index = separator < 0 ? -1 : masters.indexOf(cursor.substring(0, separator));
+		String nodeCursor = index < 0 ? INITIAL_CURSOR : cursor.substring(separator + 1);
+		index = Math.max(0, index);
+
+		String nodeId = masters.get(index);
+		KeyScanCursor<byte[]> page = await(advanced(connection).getConnection(nodeId)
+			.scan(ScanCursor.of(nodeCursor), args));
+		String next;
+		if (!page.isFinished()) {
+			next = nodeId + NODE_CURSOR_SEPARATOR + page.getCursor();
+		} else if (index + 1 < masters.size()) {
+			next = masters.get(index + 1) + NODE_CURSOR_SEPARATOR + INITIAL_CURSOR;
+		} else {
+			next = INITIAL_CURSOR;
+		}
+		return new ScanPage(next, keys(page));
+	}
+
+	/**
+	 * 첫 세트는 저장된 커서부터, 나머지는 처음부터 SSCAN 한다. 명령은 한 연결에서 모두 보낸 뒤 응답을 기다린다.
+	 */
+	private List<ValueScanCursor<byte[]>> sscan(List<String> setKeys, String firstCursor, int count) {
+		return redisTemplate.execute((RedisCallback<List<ValueScanCursor<byte[]>>>) connection -> {
+			List<RedisFuture<ValueScanCursor<byte[]>>> futures = new ArrayList<>(setKeys.size());
+			for (int i = 0; i < setKeys.size(); i++) {
+				futures.add(async(connection).sscan(raw(setKeys.get(i)), ScanCursor.of(i == 0 ? firstCursor : INITIAL_CURSOR),
+					ScanArgs.Builder.limit(count)));
+			}
+			return futures.stream().map(SessionIndexSweeper::await).toList();
+		});
+	}
+
+	private SweepReport prune(Map<String, List<String>> membersBySet) {
+		List<String> tokens = membersBySet.values().stream().flatMap(List::stream).toList();
+		if (tokens.isEmpty()) {
+			return new SweepReport(0, 0, 0, 0);
+		}
+		// legacy-fallback 중에는 레코드 키가 여러 slot 에 걸치므로 토큰마다 slot 별로 EXISTS 를 보낸다.
+		List<List<byte[][]>> recordKeys = tokens.stream()
+			.map(token -> RedisSlots.groupBySlot(refreshTokenRepository.recordKeys(token).stream()
+				.map(SessionIndexSweeper::raw)
+				.toList()))
+			.toList();
+		List<Object> exists = pipelined(connection -> recordKeys.forEach(slotGroups ->
+			slotGroups.forEach(slotKeys -> connection.keyCommands().exists(slotKeys))));
+
+		Map<String, List<String>> dangling = new LinkedHashMap<>();
+		int tokenIndex = 0;
+		int position = 0;
+		for (Map.Entry<String, List<String>> entry : membersBySet.entrySet()) {
+			for (String member : entry.getValue()) {
+				long found = 0;
+				for (int i = 0; i < recordKeys.get(tokenIndex).size(); i++) {
+					found += asLong(exists.get(position++));
+				}
+				tokenIndex++;
+				if (found == 0) {
+					dangling.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(member);
+				}
+			}
+		}
+		if (dangling.isEmpty()) {
+			return new SweepReport(0, 0, 0, 0);
+		}
+
+		List<Object> after = pipelined(connection -> dangling.forEach((setKey, members) -> {
+			connection.execute("MEMORY", raw("USAGE"), raw(setKey));
+			connection.setCommands().sRem(raw(setKey), members.stream().map(SessionIndexSweeper::raw)
+				.toArray(byte[][]::new));
+			connection.execute("MEMORY", raw("USAGE"), raw(setKey));
+		}));
+		long pruned = 0;
+		long bytes = 0;
+		for (int i = 0; i < dangling.size(); i++) {
+			bytes += Math.max(0, asLong(after.get(i * 3)) - asLong(after.get(i * 3 + 2)));
+			pruned += asLong(after.get(i * 3 + 1));
+		}
+		return new SweepReport(0, pruned, 0, bytes);
+	}
+
+	private SweepReport sweepLegacyIndex() {
+		String indexKey = refreshTokenRepository.legacyIndexKey();
+		String cursor = Optional.ofNullable(redisTemplate.opsForValue().get(LEGACY_INDEX_CURSOR_KEY))
+			.orElse(INITIAL_CURSOR);
+		ValueScanCursor<byte[]> page = redisTemplate.execute((RedisCallback<ValueScanCursor<byte[]>>) connection ->
+			await(async(connection).sscan(raw(indexKey), ScanCursor.of(cursor),
+				ScanArgs.Builder.limit(Math.min(scanCount, maxMembersPerTick)))));
+		List<String> tokens = page.getValues().stream().map(SessionIndexSweeper::str).toList();
+
+		List<Object> exists = pipelined(connection -> {
+			tokens.forEach(token -> connection.keyCommands().exists(raw(indexKey + ":" + token)));
+			connection.execute("MEMORY", raw("USAGE"), raw(indexKey));
+		});
+		List<String> dangling = new ArrayList<>();
+		for (int i = 0; i < tokens.size(); i++) {
+			if (asLong(exists.get(i)) == 0) {
+				dangling.add(tokens.get(i));
+			}
+		}
+
+		long pruned = 0;
+		long unlinked = 0;
+		long bytes = 0;
+		if (!dangling.isEmpty()) {
+			long indexBefore = asLong(exists.get(tokens.size()));
+			List<byte[][]> idxKeys = RedisSlots.groupBySlot(dangling.stream()
+				.map(token -> raw(indexKey + ":" + token + ":idx"))
+				.toList());
+			List<Object> after = pipelined(connection -> {
+				dangling.forEach(token -> connection.execute("MEMORY", raw("USAGE"), raw(indexKey + ":" + token + ":idx")));
+				idxKeys.forEach(slotKeys -> connection.keyCommands().unlink(slotKeys));
+				connection.setCommands().sRem(raw(indexKey), dangling.stream().map(SessionIndexSweeper::raw)
+					.toArray(byte[][]::new));
+				connection.execute("MEMORY", raw("USAGE"), raw(indexKey));
+			});
+			int position = 0;
+			for (int i = 0; i < dangling.size(); i++) {
+				bytes += asLong(after.get(position++));
+			}
+			for (int i = 0; i < idxKeys.size(); i++) {
+				unlinked += asLong(after.get(position++));
+			}
+			pruned = asLong(after.get(position++));
+			bytes += Math.max(0, indexBefore - asLong(after.get(position)));
+		}
+
+		redisTemplate.opsForValue().set(LEGACY_INDEX_CURSOR_KEY, page.isFinished() ? INITIAL_CURSOR : page.getCursor());
+		return new SweepReport(tokens.size(), pruned, unlinked, bytes);
+	}
+
+	private List<Object> pipelined(Consumer<RedisConnection> commands) {
+		return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			commands.accept(connection);
+			return null;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisClusterAsyncCommands<byte[], byte[]> async(RedisConnection connection) {
+		return (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisAdvancedClusterAsyncCommands<byte[], byte[]> advanced(RedisConnection connection) {
+		return (RedisAdvancedClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+	}
+
+	private static List<String> keys(KeyScanCursor<byte[]> page) {
+		return page.getKeys().stream().map(SessionIndexSweeper::str).toList();
+	}
+
+	private static <T> T await(RedisFuture<T> future) {
+		return LettuceFutures.awaitOrCancel(future, 10, TimeUnit.SECONDS);
+	}
+
+	private static long asLong(Object value) {
+		return value instanceof Number number ? number.longValue() : 0L;
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String str(byte[] value) {
+		return new String(value, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 처리 중인 SCAN 페이지. 첫 줄은 맨 앞 세트의 SSCAN 커서이고, 이어지는 줄이 아직 끝나지 않은 세트 키다.
+	 * 세트 키는 SessionKeys.userTokens 로 만든 값이라 줄바꿈을 포함하지 않는다.
+	 */
+	private record PagePosition(String setCursor, Deque<String> pending) {
+
+		static PagePosition parse(String value) {
+			if (value == null || value.isEmpty()) {
+				return new PagePosition(INITIAL_CURSOR, new ArrayDeque<>());
+			}
+			Deque<String> lines = new ArrayDeque<>(List.of(value.split(PAGE_SEPARATOR)));
+			String setCursor = lines.removeFirst();
+			return new PagePosition(setCursor, lines);
+		}
+
+		String format() {
+			return pending.isEmpty() ? "" : setCursor + PAGE_SEPARATOR + String.join(PAGE_SEPARATOR, pending);
+		}
+	}
+
+	private record ScanPage(String nextCursor, List<String> keys) {
+	}
+
+	public record SweepReport(long scannedKeys, long prunedMembers, long unlinkedKeys, long reclaimedBytes) {
+
+		SweepReport plus(SweepReport other) {
+			return new SweepReport(scannedKeys + other.scannedKeys, prunedMembers + other.prunedMembers,
+				unlinkedKeys + other.unlinkedKeys, reclaimedBytes + other.reclaimedBytes);
+		}
+	}
+
+	public record SweepTotals(long sweeps, long prunedMembers, long unlinkedKeys, long reclaimedBytes) {
+	}
+}
@@ -0,0 +1,150 @@
+package app.auth.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.response.UserSummaryResponse;
+import app.auth.model.repository.UserRepository;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.metrics.AuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내부 서비스용 사용자 일괄 조회. 중복을 없앤 ID 를 로컬 캐시에서 먼저 찾고, 나머지는 chunk-size 개씩 IN 쿼리로 읽는다.
+ * 결과는 chunk 가 끝날 때마다 JSON Lines 로 흘려보내며 순서는 보장하지 않는다. 탈퇴했거나 없는 사용자는 found=false 줄로 내려간다.
+ * 캐시는 cache-ttl 동안만 유효하므로 역할 변경이나 탈퇴가 그 시간만큼 늦게 보일 수 있다.
+ * 캐시는 접근 순서를 유지하는 LinkedHashMap 이라 가득 차면 가장 오래 쓰이지 않은 항목 하나만 내보낸다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserLookupService {
+
+	private final UserRepository userRepository;
+	private final ObjectMapper objectMapper;
+	private final AuthMetrics authMetrics;
+	private final Map<Long, CachedUser> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+			return size() > cacheMaxEntries;
+		}
+	};
+
+	@Value("${auth.user.lookup.max-size:10000}")
+	private int maxLookupSize = 10000;
+
+	@Value("${auth.user.lookup.chunk-size:500}")
+	private int chunkSize = 500;
+
+	@Value("${auth.user.lookup.cache-ttl:PT5S}")
+	private Duration cacheTtl = Duration.ofSeconds(5);
+
+	@Value("${auth.user.lookup.cache-max-entries:50000}")
+	private int cacheMaxEntries = 50000;
+
+	public UserLookupService(UserRepository userRepository, ObjectMapper objectMapper, AuthMetrics authMetrics) {
+		this.userRepository = userRepository;
+		this.objectMapper = objectMapper;
+		this.authMetrics = authMetrics;
+	}
+
+	/**
+	 * 응답 스트림을 열기 전에 호출해야 한다. 스트리밍이 시작된 뒤에는 오류 상태 코드를 돌려줄 수 없다.
+	 */
+	public void validateLookupSize(List<Long> userIds) {
+		if (userIds.size() > maxLookupSize) {
+			throw new GeneralException(UserErrorStatus.USER_LOOKUP_TOO_LARGE);
+		}
+	}
+
+	public void writeLookup(List<Long> userIds, OutputStream out) throws IOException {
+		long now = System.nanoTime();
+		Set<Long> distinct = new LinkedHashSet<>(userIds);
+		List<Long> misses = new ArrayList<>();
+		List<UserSummaryResponse> cachedUsers = new ArrayList<>();
+
+		synchronized (cache) {
+			for (Long userId : distinct) {
+				CachedUser cached = cache.get(userId);
+				if (cached != null && cached.expiresAt() - now > 0) {
+					cachedUsers.add(cached.user());
+				} else {
+					misses.add(userId);
+				}
+			}
+		}
+		for (UserSummaryResponse user : cachedUsers) {
+			writeFound(user, out);
+		}
+		int hits = cachedUsers.size();
+		authMetrics.increment("auth.user_lookup.cache", hits, "result", "hit");
+		authMetrics.increment("auth.user_lookup.cache", misses.size(), "result", "miss");
+
+		for (int from = 0; from < misses.size(); from += chunkSize) {
+			List<Long> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+			Set<Long> notFound = new LinkedHashSet<>(chunk);
+			List<UserSummaryResponse> users = userRepository.findByUserIdIn(chunk);
+			remember(users);
+			for (UserSummaryResponse user : users) {
+				notFound.remove(user.getUserId());
+				writeFound(user, out);
+			}
+			for (Long userId : notFound) {
+				writeNotFound(userId, out);
+			}
+			out.flush();
+		}
+		out.flush();
+		log.debug("사용자 일괄 조회 - requested: {}, distinct: {}, cacheHits: {}", userIds.size(), distinct.size(), hits);
+	}
+
+	private void remember(List<UserSummaryResponse> users) {
+		if (cacheTtl.isZero() || cacheTtl.isNegative() || users.isEmpty()) {
+			return;
+		}
+		long expiresAt = System.nanoTime() + cacheTtl.toNanos();
+		synchronized (cache) {
+			for (UserSummaryResponse user : users) {
+				cache.put(user.getUserId(), new CachedUser(user, expiresAt));
+			}
+		}
+	}
+
+	private void writeFound(UserSummaryResponse user, OutputStream out) throws IOException {
+		Map<String, Object> line = new LinkedHashMap<>();
+		line.put("userId", user.getUserId());
+		line.put("found", true);
+		line.put("username", user.getUsername());
+		line.put("userRole", user.getUserRole());
+		writeLine(line, out);
+	}
+
+	private void writeNotFound(Long userId, OutputStream out) throws IOException {
+		Map<String, Object> line = new LinkedHashMap<>();
+		line.put("userId", userId);
+		line.put("found", false);
+		writeLine(line, out);
+	}
+
+	private void writeLine(Map<String, Object> line, OutputStream out) throws IOException {
+		out.write(objectMapper.writeValueAsBytes(line));
+		out.write('\n');
+	}
+
+	private record CachedUser(UserSummaryResponse user, long expiresAt) {
+	}
+}
@@ -0,0 +1,117 @@
+package app.auth.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.response.UserSummaryResponse;
+import app.auth.model.entity.enums.UserRole;
+import app.auth.model.repository.UserRepository;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.KeysetPageResponse;
+import app.global.apiPayload.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 역할별 사용자 목록. OFFSET 대신 마지막으로 본 userId 이후를 읽는 keyset 방식이라 뒤쪽 페이지도 같은 비용이 든다.
+ * 커서는 (role, 마지막 userId) 를 base64url 로 감싼 값이며 다른 역할의 목록에는 쓸 수 없다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserQueryService {
+
+	private static final String EXPORT_QUERY = """
+		SELECT user_id, username, user_role FROM p_user
+		WHERE user_role = ? AND deleted_at IS NULL
+		ORDER BY user_id
+		""";
+
+	private final UserRepository userRepository;
+	private final JdbcTemplate exportJdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${auth.user.list.max-size:500}")
+	private int maxPageSize = 500;
+
+	public UserQueryService(UserRepository userRepository, DataSource dataSource, ObjectMapper objectMapper,
+		@Value("${auth.user.export.fetch-size:1000}") int exportFetchSize) {
+		this.userRepository = userRepository;
+		this.objectMapper = objectMapper;
+		this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+		this.exportJdbcTemplate.setFetchSize(exportFetchSize);
+	}
+
+	public KeysetPageResponse<UserSummaryResponse> listByRole(UserRole role, String cursor, int size,
+		boolean includeTotal) {
+		int pageSize = Math.max(1, Math.min(size, maxPageSize));
+		long afterUserId = cursor == null || cursor.isBlank() ? 0L : decodeCursor(role, cursor);
+
+		// 한 건 더 읽어 다음 페이지가 있는지 판단한다.
+		List<UserSummaryResponse> rows = userRepository.findByUserRoleAndUserIdGreaterThanOrderByUserIdAsc(
+			role, afterUserId, PageRequest.ofSize(pageSize + 1));
+		boolean last = rows.size() <= pageSize;
+		List<UserSummaryResponse> content = last ? rows : rows.subList(0, pageSize);
+		String nextCursor = last ? null : encodeCursor(role, content.get(content.size() - 1).getUserId());
+		Long totalElements = includeTotal ? userRepository.countByUserRole(role) : null;
+
+		return new KeysetPageResponse<>(content, content.size(), nextCursor, last, totalElements);
+	}
+
+	/**
+	 * 역할에 속한 사용자 전체를 JSON Lines 로 쓴다. 서버 측 커서로 fetch-size 만큼씩 읽으므로 결과 크기와 관계없이 힙 사용량이 일정하다.
+	 * Postgres 드라이버는 트랜잭션 안(autocommit off)에서만 fetch size 를 지키므로 이 메서드는 트랜잭션으로 실행되어야 한다.
+	 */
+	public long exportByRole(UserRole role, OutputStream out) throws IOException {
+		long[] written = {0};
+		try {
+			exportJdbcTemplate.query(EXPORT_QUERY, resultSet -> {
+				UserSummaryResponse row = new UserSummaryResponse(resultSet.getLong("user_id"),
+					resultSet.getString("username"), UserRole.valueOf(resultSet.getString("user_role")));
+				try {
+					out.write(objectMapper.writeValueAsBytes(row));
+					out.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				written[0]++;
+			}, role.name());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		out.flush();
+		log.info("사용자 목록 내보내기 완료 - role: {}, rows: {}", role, written[0]);
+		return written[0];
+	}
+
+	private static String encodeCursor(UserRole role, long lastUserId) {
+		String raw = role.name() + ":" + lastUserId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static long decodeCursor(UserRole role, String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf(':');
+			if (separator < 0 || !role.name().equals(raw.substring(0, separator))) {
+				throw new GeneralException(UserErrorStatus.INVALID_PAGE_CURSOR);
+			}
+			return Long.parseLong(raw.substring(separator + 1));
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException(UserErrorStatus.INVALID_PAGE_CURSOR);
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package app.auth.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.redis.RedisLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 탈퇴(deleted_at 설정)했지만 아직 익명화되지 않은 사용자를 chunk-size 명씩 한 번의 UPDATE 로 익명화한다.
+ * 값은 {@link app.auth.model.entity.User#anonymizeForWithdrawal()} 와 같다.
+ * 엔티티를 읽지 않으므로 영속성 컨텍스트가 쌓이지 않는다. chunk 마다 UPDATE 와 Refresh Token 폐기를 한 트랜잭션에서 하고,
+ * 폐기가 성공한 뒤에만 커밋하므로 익명화됐지만 세션이 남은 사용자가 생기지 않는다.
+ * 마지막으로 처리한 userId 를 Redis 에 체크포인트로 남기므로 중간에 멈추면 다음 실행이 그 뒤부터 이어간다.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class WithdrawalAnonymizationJob {
+
+	private static final String LOCK_KEY = "lock:withdrawal-anonymization";
+	private static final String CHECKPOINT_KEY = "withdrawal:anonymization:checkpoint";
+
+	/**
+	 * SKIP LOCKED 로 다른 트랜잭션이 잡고 있는 행은 이번 chunk 에서 건너뛴다.
+	 */
+	private static final String ANONYMIZE_CHUNK = """
+		WITH chunk AS (
+		    SELECT user_id FROM p_user
+		    WHERE deleted_at IS NOT NULL AND user_id > ? AND username NOT LIKE 'withdrawn\\_user\\_%'
+		    ORDER BY user_id
+		    LIMIT ?
+		    FOR UPDATE SKIP LOCKED
+		)
+		UPDATE p_user u
+		SET username     = 'withdrawn_user_' || u.user_id,
+		    password     = 'withdrawn_password',
+		    email        = 'withdrawn_' || u.user_id || '@example.com',
+		    nickname     = '탈퇴한 사용자_' || u.user_id,
+		    real_name    = '탈퇴한 사용자',
+		    phone_number = 'withdrawn-' || u.user_id,
+		    updated_at   = now()
+		FROM chunk
+		WHERE u.user_id = chunk.user_id
+		RETURNING u.user_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionOperations transactionOperations;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RefreshTokenService refreshTokenService;
+	private final RedisLock lock;
+
+	@Value("${auth.withdrawal.anonymization.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${auth.withdrawal.anonymization.chunk-size:500}")
+	private int chunkSize = 500;
+
+	/**
+	 * 한 번 실행의 상한. 락도 이 시간 동안 유지된다.
+	 */
+	@Value("${auth.withdrawal.anonymization.max-duration:PT30M}")
+	private Duration maxDuration = Duration.ofMinutes(30);
+
+	@Autowired
+	public WithdrawalAnonymizationJob(DataSource dataSource, PlatformTransactionManager transactionManager,
+		RedisTemplate<String, String> redisTemplate, RefreshTokenService refreshTokenService) {
+		this(new JdbcTemplate(dataSource), new TransactionTemplate(transactionManager), redisTemplate,
+			refreshTokenService);
+	}
+
+	WithdrawalAnonymizationJob(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+		RedisTemplate<String, String> redisTemplate, RefreshTokenService refreshTokenService) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionOperations = transactionOperations;
+		this.redisTemplate = redisTemplate;
+		this.refreshTokenService = refreshTokenService;
+		this.lock = new RedisLock(redisTemplate, LOCK_KEY);
+	}
+
+	@Scheduled(cron = "${auth.withdrawal.anonymization.cron:0 0 4 * * *}")
+	public void scheduledRun() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			run();
+		} catch (GeneralException e) {
+			log.info("탈퇴 회원 익명화 건너뜀 - 다른 인스턴스에서 실행 중");
+		} catch (Exception e) {
+			log.warn("탈퇴 회원 익명화 실패, 다음 실행에서 체크포인트부터 이어갑니다: {}", e.toString());
+		}
+	}
+
+	/**
+	 * 처리할 사용자가 없거나 max-duration 이 지날 때까지 chunk 를 반복한다. 끝까지 처리하면 체크포인트를 지워 다음 실행은 처음부터 확인한다.
+	 */
+	public AnonymizationReport run() {
+		if (!lock.tryAcquire(maxDuration)) {
+			throw new GeneralException(UserErrorStatus.WITHDRAWAL_ANONYMIZATION_IN_PROGRESS);
+		}
+		try {
+			long resumedFrom = Optional.ofNullable(redisTemplate.opsForValue().get(CHECKPOINT_KEY))
+				.map(Long::parseLong)
+				.orElse(0L);
+			long deadline = System.nanoTime() + maxDuration.toNanos();
+
+			long checkpoint = resumedFrom;
+			int chunks = 0;
+			long anonymized = 0;
+			long revokedKeys = 0;
+			boolean completed = false;
+
+			while (System.nanoTime() - deadline < 0) {
+				AnonymizedChunk chunk = anonymizeChunk(checkpoint);
+				List<Long> userIds = chunk.userIds();
+				if (userIds.isEmpty()) {
+					completed = true;
+					break;
+				}
+
+				revokedKeys += chunk.revokedKeys();
+
+				checkpoint = userIds.stream().mapToLong(Long::longValue).max().orElse(checkpoint);
+				redisTemplate.opsForValue().set(CHECKPOINT_KEY, Long.toString(checkpoint));
+				chunks++;
+				anonymized += userIds.size();
+
+				if (userIds.size() < chunkSize) {
+					completed = true;
+					break;
+				}
+			}
+
+			if (completed) {
+				redisTemplate.delete(CHECKPOINT_KEY);
+			}
+			log.info("탈퇴 회원 익명화 - resumedFrom: {}, chunks: {}, users: {}, revokedKeys: {}, completed: {}",
+				resumedFrom, chunks, anonymized, revokedKeys, completed);
+			return new AnonymizationReport(resumedFrom, chunks, anonymized, revokedKeys, completed);
+		} finally {
+			lock.release();
+		}
+	}
+
+	/**
+	 * 폐기가 예외로 끝나면 트랜잭션이 롤백되어 이 chunk 의 UPDATE 도 되돌아간다.
+	 */
+	private AnonymizedChunk anonymizeChunk(long checkpoint) {
+		return transactionOperations.execute(status -> {
+			List<Long> userIds = jdbcTemplate.queryForList(ANONYMIZE_CHUNK, Long.class, checkpoint, chunkSize);
+			if (userIds.isEmpty()) {
+				return new AnonymizedChunk(userIds, 0);
+			}
+			long revokedKeys = refreshTokenService.revokeSessionsInBulk(
+				userIds.stream().map(String::valueOf).toList()).getUnlinkedKeys();
+			return new AnonymizedChunk(userIds, revokedKeys);
+		});
+	}
+
+	private record AnonymizedChunk(List<Long> userIds, long revokedKeys) {
+	}
+
+	public record AnonymizationReport(long resumedFrom, int chunks, long anonymizedUsers, long revokedKeys,
+									  boolean completed) {
+	}
+}
@@ -18,7 +18,17 @@ public enum UserErrorStatus implements BaseCode {
 	NICKNAME_ALREADY_EXISTS(HttpStatus.CONFLICT, "USER003", "이미 사용 중인 닉네임입니다."),
 	PHONE_NUMBER_ALREADY_EXISTS(HttpStatus.CONFLICT, "USER004", "이미 사용 중인 전화번호입니다."),
 
-	AUTHENTICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "USER005", "인증 정보를 찾을 수 없습니다.");
+	AUTHENTICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "USER005", "인증 정보를 찾을 수 없습니다."),
+	INVALID_PAGE_CURSOR(HttpStatus.BAD_REQUEST, "USER006", "올바르지 않은 페이지 커서입니다."),
+	USER_LOOKUP_TOO_LARGE(HttpStatus.BAD_REQUEST, "USER007", "한 번에 조회할 수 있는 사용자 수를 초과했습니다."),
+	WITHDRAWAL_ANONYMIZATION_IN_PROGRESS(HttpStatus.CONFLICT, "USER008", "탈퇴 회원 익명화가 이미 진행 중입니다."),
+
+	REVOKE_REQUEST_TOO_LARGE(HttpStatus.BAD_REQUEST, "SESSION001", "한 번에 폐기할 수 있는 사용자 수를 초과했습니다."),
+
+	INVALID_REVOCATION_VERSION(HttpStatus.BAD_REQUEST, "REVOKE001", "올바르지 않은 폐기 목록 버전입니다."),
+
+	TOKEN_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "TOKEN001", "한 번에 발급할 수 있는 토큰 수를 초과했습니다."),
+	TOKEN_BATCH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "TOKEN002", "토큰 발급 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
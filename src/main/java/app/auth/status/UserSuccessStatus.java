@@ -15,7 +15,13 @@ public enum UserSuccessStatus implements BaseCode {
 	LOGIN_SUCCESS(HttpStatus.OK, "USER202", "로그인에 성공했습니다."),
 	LOGOUT_SUCCESS(HttpStatus.OK, "USER203", "로그아웃에 성공했습니다."),
 	WITHDRAW_SUCCESS(HttpStatus.OK, "USER204", "회원 탈퇴가 성공적으로 처리되었습니다."),
-	USER_PROFILE_FETCHED(HttpStatus.OK, "USER205", "회원 정보 조회에 성공했습니다.");
+	USER_PROFILE_FETCHED(HttpStatus.OK, "USER205", "회원 정보 조회에 성공했습니다."),
+	USERS_LISTED(HttpStatus.OK, "USER206", "사용자 목록 조회에 성공했습니다."),
+	WITHDRAWALS_ANONYMIZED(HttpStatus.OK, "USER207", "탈퇴 회원 익명화가 완료되었습니다."),
+	SESSIONS_REVOKED(HttpStatus.OK, "SESSION200", "세션 일괄 폐기가 완료되었습니다."),
+	SESSIONS_MIGRATED(HttpStatus.OK, "SESSION201", "레거시 세션 이전이 완료되었습니다."),
+	SESSION_MEMORY_REPORTED(HttpStatus.OK, "SESSION202", "세션 메모리 사용량 조회에 성공했습니다."),
+	SESSION_SWEEPER_REPORTED(HttpStatus.OK, "SESSION203", "세션 인덱스 스윕 현황 조회에 성공했습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -3,6 +3,8 @@ package app.global;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import app.auth.model.repository.UserRepository;
 import app.auth.model.entity.User;
@@ -14,9 +16,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityUtil {
 
+	private static final String PRINCIPAL_ATTRIBUTE = UserPrincipal.class.getName();
+
 	private final UserRepository userRepository;
 
-	public User getCurrentUser() {
+	/**
+	 * 토큰 클레임으로 만든 현재 사용자. DB 를 읽지 않으며, 요청 안에서는 같은 인스턴스를 돌려준다.
+	 */
+	public UserPrincipal getCurrentPrincipal() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(
@@ -24,8 +31,26 @@ public class SecurityUtil {
 			throw new GeneralException(ErrorStatus._UNAUTHORIZED);
 		}
 
-		Long userId = Long.parseLong(authentication.getName());
-		return userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null
+			&& attributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UserPrincipal cached
+			&& cached.isFrom(authentication)) {
+			return cached;
+		}
+
+		UserPrincipal principal = UserPrincipal.from(authentication);
+		if (attributes != null) {
+			attributes.setAttribute(PRINCIPAL_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+		}
+		return principal;
+	}
+
+	/**
+	 * 클레임에 없는 필드가 필요할 때만 쓴다. 요청마다 처음 한 번만 DB 를 읽는다.
+	 */
+	public User getCurrentUser() {
+		UserPrincipal principal = getCurrentPrincipal();
+		return principal.user(() -> userRepository.findById(principal.getUserId())
+			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND)));
 	}
 }
@@ -0,0 +1,62 @@
+package app.global;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import app.auth.model.entity.User;
+import lombok.Getter;
+
+/**
+ * 검증된 토큰의 클레임(sub, user_role)만으로 만든 현재 사용자. 요청마다 한 번 만들어진다.
+ * 클레임에 없는 필드가 필요할 때만 User 를 읽고, 그 요청이 끝날 때까지 다시 읽지 않는다.
+ */
+public class UserPrincipal {
+
+	private static final String ROLE_PREFIX = "ROLE_";
+
+	@Getter
+	private final Long userId;
+
+	@Getter
+	private final String role;
+
+	private User user;
+	private Authentication source;
+
+	public UserPrincipal(Long userId, String role) {
+		this.userId = userId;
+		this.role = role;
+	}
+
+	public static UserPrincipal from(Authentication authentication) {
+		UserPrincipal principal;
+		if (authentication.getPrincipal() instanceof Jwt jwt) {
+			String subject = jwt.getSubject() != null ? jwt.getSubject() : jwt.getClaimAsString("user_id");
+			principal = new UserPrincipal(Long.parseLong(subject), jwt.getClaimAsString("user_role"));
+		} else {
+			String role = authentication.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.filter(authority -> authority.startsWith(ROLE_PREFIX))
+				.map(authority -> authority.substring(ROLE_PREFIX.length()))
+				.findFirst()
+				.orElse(null);
+			principal = new UserPrincipal(Long.parseLong(authentication.getName()), role);
+		}
+		principal.source = authentication;
+		return principal;
+	}
+
+	boolean isFrom(Authentication authentication) {
+		return source == authentication;
+	}
+
+	User user(Supplier<User> loader) {
+		if (user == null) {
+			user = loader.get();
+		}
+		return user;
+	}
+}
@@ -0,0 +1,26 @@
+package app.global.apiPayload;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 페이지. 다음 페이지는 nextCursor 를 그대로 넘겨 요청한다. totalElements 는 요청한 경우에만 채워진다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageResponse<T> {
+
+	private List<T> content;
+	private int size;
+	private String nextCursor;
+	private boolean last;
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long totalElements;
+}
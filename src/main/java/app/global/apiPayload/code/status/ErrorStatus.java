@@ -18,6 +18,9 @@ public enum ErrorStatus implements BaseCode {
 	ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER006", "주문을 찾을 수 없습니다."),
 	PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "PAYMENT005", "결제내역을 찾을 수 없습니다."),
 
+	JFR_RECORDING_IN_PROGRESS(HttpStatus.CONFLICT, "DIAG001", "이미 진행 중인 JFR 레코딩이 있습니다."),
+	JFR_RECORDING_NOT_FOUND(HttpStatus.NOT_FOUND, "DIAG002", "내려받을 JFR 레코딩이 없습니다."),
+
 	_INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON500", "서버 에러, 관리자에게 문의 바랍니다."),
 	_BAD_REQUEST(HttpStatus.BAD_REQUEST, "COMMON400", "잘못된 요청입니다."),
 	_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMON401", "인증이 필요합니다."),
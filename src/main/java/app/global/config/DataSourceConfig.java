@@ -0,0 +1,94 @@
+package app.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import app.global.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쓰기와 read-write 트랜잭션은 spring.datasource(primary)로, read-only 트랜잭션은 replica 로 보낸다.
+ * LazyConnectionDataSourceProxy 가 실제 커넥션을 첫 쿼리 시점까지 미루므로, 트랜잭션의 readOnly 여부가 정해진 뒤에 대상을 고를 수 있다.
+ * DB_REPLICA_URLS 가 비어 있으면 read-only 트랜잭션도 primary 로 간다.
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+	/**
+	 * 쉼표로 구분한 replica JDBC URL. 계정은 primary 와 같은 것을 쓴다.
+	 */
+	@Value("${auth.datasource.replica.urls:}")
+	private String replicaUrls;
+
+	@Value("${auth.datasource.replica.max-lag:PT5S}")
+	private Duration maxLag;
+
+	@Value("${auth.datasource.replica.pool-size:10}")
+	private int replicaPoolSize;
+
+	/**
+	 * replica 가 멈췄을 때 로그인 요청이 primary 로 넘어가기 전까지 기다리는 최대 시간.
+	 */
+	@Value("${auth.datasource.replica.connection-timeout:PT1S}")
+	private Duration replicaConnectionTimeout;
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		return dataSource;
+	}
+
+	@Bean
+	@Lazy(false)
+	public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+		MeterRegistry meterRegistry) {
+		List<HikariDataSource> replicas = new ArrayList<>();
+		List<String> urls = Arrays.stream(replicaUrls.split(","))
+			.map(String::trim)
+			.filter(url -> !url.isEmpty())
+			.toList();
+		for (int i = 0; i < urls.size(); i++) {
+			HikariDataSource replica = new HikariDataSource();
+			primaryDataSource.copyStateTo(replica);
+			replica.setJdbcUrl(urls.get(i));
+			replica.setPoolName("replica-" + (i + 1));
+			replica.setMaximumPoolSize(replicaPoolSize);
+			replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), replicaPoolSize));
+			replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+			replica.setReadOnly(true);
+			replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+			replicas.add(replica);
+		}
+		log.info("read-only 트랜잭션 라우팅 - replicas: {}, maxLag: {}", replicas.size(), maxLag);
+		return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+		LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+		proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+		return proxy;
+	}
+}
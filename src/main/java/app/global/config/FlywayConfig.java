@@ -0,0 +1,23 @@
+package app.global.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * spring.main.lazy-initialization 이 켜져 있어도 마이그레이션은 첫 요청이 아니라 기동 시에 끝나도록 한다.
+ * CDS 학습 실행(spring.context.exit=onRefresh)에는 DB 가 없으므로 그때는 다른 빈처럼 지연시킨다.
+ */
+@Configuration
+public class FlywayConfig {
+
+	@Bean
+	public static LazyInitializationExcludeFilter flywayMigrationEagerInitialization(Environment environment) {
+		if (environment.containsProperty("spring.context.exit")) {
+			return (beanName, beanDefinition, beanType) -> false;
+		}
+		return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class);
+	}
+}
@@ -0,0 +1,21 @@
+package app.global.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * /oauth2/token 을 호출할 수 있는 내부 서비스 목록. 키는 client_id, 값은 BCrypt 로 해시한 client_secret 이다.
+ * 목록에서 빠진 서비스는 새 토큰을 받지 못하고, 이미 받은 토큰도 /internal/** 에서 거부된다.
+ */
+@ConfigurationProperties("auth.internal-token")
+public record InternalClientProperties(Map<String, String> clients) {
+
+	public InternalClientProperties {
+		clients = clients == null ? Map.of() : Map.copyOf(clients);
+	}
+
+	public boolean isRegistered(String clientId) {
+		return clientId != null && clients.containsKey(clientId);
+	}
+}
@@ -1,16 +1,35 @@
 package app.global.config;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import app.global.jwt.KmsRegionRouter;
+import app.global.jwt.KmsRsaSigner;
+import app.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kms.KmsClient;
 import software.amazon.awssdk.services.kms.KmsClientBuilder;
+import software.amazon.awssdk.services.kms.model.SigningAlgorithmSpec;
 
+/**
+ * kms.jwt.region 의 키와 kms.jwt.replica-regions 에 있는 그 키의 multi-region replica 로 서명한다.
+ * 리전 선택과 장애 시 전환은 {@link KmsRegionRouter} 가 한다.
+ */
+@Slf4j
 @Configuration
 @Profile("prod")
 public class KmsConfig {
@@ -21,16 +40,111 @@ public class KmsConfig {
     @Value("${aws.kms.endpoint:}")
     private String kmsEndpoint;
 
+    @Value("${kms.jwt.key-id}")
+    private String kmsKeyId;
+
+    @Value("${kms.jwt.signing-alg:RSASSA_PKCS1_V1_5_SHA_256}")
+    private String signingAlg;
+
+    /**
+     * 쉼표로 구분한 replica 리전. 비어 있으면 kms.jwt.region 하나만 쓴다.
+     */
+    @Value("${kms.jwt.replica-regions:}")
+    private String replicaRegions;
+
+    /**
+     * 리전별 엔드포인트. "리전=URL" 을 쉼표로 구분한다. 로컬 KMS 대역을 리전마다 다른 포트로 띄울 때 쓴다.
+     */
+    @Value("${kms.jwt.endpoints:}")
+    private String regionEndpoints;
+
+    /**
+     * 재시도를 포함한 호출 한 번의 상한. 브라운아웃 중인 리전이 로그인을 붙잡지 않고 다음 리전으로 넘어가게 한다.
+     */
+    @Value("${kms.jwt.call-timeout:PT2S}")
+    private Duration callTimeout;
+
+    @Value("${kms.jwt.latency-ewma-alpha:0.2}")
+    private double latencyEwmaAlpha;
+
+    @Value("${kms.jwt.failover-cooldown:PT30S}")
+    private Duration failoverCooldown;
+
     @Bean
     public KmsClient kmsClient() {
+        String endpoint = endpoints().getOrDefault(awsRegion, kmsEndpoint);
+        return buildClient(awsRegion, endpoint);
+    }
+
+    @Bean
+    public KmsRegionRouter kmsRegionRouter(KmsClient kmsClient, AuthMetrics authMetrics, MeterRegistry meterRegistry) {
+        SigningAlgorithmSpec alg = SigningAlgorithmSpec.fromValue(signingAlg);
+        Map<String, String> endpoints = endpoints();
+
+        List<KmsRegionRouter.Region> regions = new ArrayList<>();
+        regions.add(region(awsRegion, kmsKeyId, kmsClient, alg, authMetrics));
+        for (String replica : split(replicaRegions)) {
+            if (replica.equals(awsRegion)) {
+                continue;
+            }
+            KmsClient client = buildClient(replica, endpoints.get(replica));
+            regions.add(region(replica, replicaKeyId(replica), client, alg, authMetrics));
+        }
+
+        log.info("KMS 서명 리전 - regions: {}, cooldown: {}",
+            regions.stream().map(KmsRegionRouter.Region::name).toList(), failoverCooldown);
+        return new KmsRegionRouter(regions, latencyEwmaAlpha, failoverCooldown, meterRegistry);
+    }
+
+    private KmsRegionRouter.Region region(String name, String keyId, KmsClient client, SigningAlgorithmSpec alg,
+        AuthMetrics authMetrics) {
+        return new KmsRegionRouter.Region(name, keyId, client,
+            new KmsRsaSigner(client, keyId, alg, authMetrics, name));
+    }
+
+    private KmsClient buildClient(String region, String endpoint) {
         KmsClientBuilder builder = KmsClient.builder()
                 .credentialsProvider(DefaultCredentialsProvider.create())
-                .region(Region.of(awsRegion));
+                .region(Region.of(region))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(callTimeout)
+                        .build());
 
-        if (kmsEndpoint != null && !kmsEndpoint.isBlank()) {
-            builder.endpointOverride(URI.create(kmsEndpoint));
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
         }
 
         return builder.build();
     }
+
+    /**
+     * multi-region 키는 리전마다 키 ID 가 같고 ARN 의 리전 부분만 다르다. mrk- 키 ID 나 별칭은 그대로 쓴다.
+     */
+    private String replicaKeyId(String region) {
+        if (!kmsKeyId.startsWith("arn:")) {
+            return kmsKeyId;
+        }
+        String[] parts = kmsKeyId.split(":", 6);
+        parts[3] = region;
+        return String.join(":", parts);
+    }
+
+    private Map<String, String> endpoints() {
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        for (String entry : split(regionEndpoints)) {
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalStateException("kms.jwt.endpoints entry must be region=url: " + entry);
+            }
+            endpoints.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+        }
+        return endpoints;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
 }
@@ -1,17 +1,32 @@
 package app.global.config;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import app.auth.model.repository.SessionKeys;
+import io.lettuce.core.ReadFrom;
+import jakarta.annotation.PostConstruct;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+
 @Configuration
 public class RedisConfig {
 
@@ -27,8 +42,87 @@ public class RedisConfig {
 	@Value("${REDIS_PROTOCOL:spring.data.redis.protocol}")
 	private String redisProtocol;
 
+	/**
+	 * standalone | cluster | sentinel
+	 */
+	@Value("${REDIS_MODE:standalone}")
+	private String redisMode;
+
+	@Value("${REDIS_CLUSTER_NODES:}")
+	private String clusterNodes;
+
+	@Value("${REDIS_SENTINEL_MASTER:}")
+	private String sentinelMaster;
+
+	@Value("${REDIS_SENTINEL_NODES:}")
+	private String sentinelNodes;
+
+	/**
+	 * replicaRedisTemplate 이 사용할 Lettuce ReadFrom (upstream, upstreamPreferred, replicaPreferred, replica, nearest ...)
+	 */
+	@Value("${REDIS_REPLICA_READ_FROM:upstream}")
+	private String replicaReadFrom;
+
+	/**
+	 * 세션 키 해시 태그를 만드는 HMAC 비밀값. 모든 인스턴스가 같아야 하고, 운영 중에 바꾸면 기존 세션 키를 찾지 못한다.
+	 */
+	@Value("${auth.session.key-secret:default_session_key_secret_for_dev}")
+	private String sessionKeySecret;
+
+	/**
+	 * 세션 키를 쓰는 빈은 모두 Redis 템플릿을 주입받으므로, 그 전에 이 설정이 만들어지면서 비밀값이 정해진다.
+	 */
+	@PostConstruct
+	void configureSessionKeys() {
+		SessionKeys.configure(sessionKeySecret);
+	}
+
 	@Bean
+	@Primary
 	public LettuceConnectionFactory redisConnectionFactory() {
+		return new LettuceConnectionFactory(redisConfiguration(), clientConfiguration(null));
+	}
+
+	/**
+	 * 세션 진단, 스윕 등 읽기 위주의 조회용 커넥션. REDIS_REPLICA_READ_FROM 이 upstream 이 아니면 replica 에서 읽는다.
+	 * 토큰 검증·회전처럼 최신 값이 필요한 경로는 기본 redisTemplate 을 사용해야 한다.
+	 */
+	@Bean
+	public LettuceConnectionFactory replicaRedisConnectionFactory() {
+		return new LettuceConnectionFactory(redisConfiguration(),
+			clientConfiguration(ReadFrom.valueOf(replicaReadFrom)));
+	}
+
+	@Bean
+	@Primary
+	public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
+		return stringTemplate(connectionFactory);
+	}
+
+	@Bean
+	public RedisTemplate<String, String> replicaRedisTemplate(
+		@Qualifier("replicaRedisConnectionFactory") RedisConnectionFactory replicaRedisConnectionFactory) {
+		return stringTemplate(replicaRedisConnectionFactory);
+	}
+
+	private RedisConfiguration redisConfiguration() {
+		if ("cluster".equalsIgnoreCase(redisMode)) {
+			RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration(splitNodes(clusterNodes));
+			if (redisPassword != null && !redisPassword.isBlank()) {
+				clusterConfig.setPassword(redisPassword);
+			}
+			return clusterConfig;
+		}
+
+		if ("sentinel".equalsIgnoreCase(redisMode)) {
+			RedisSentinelConfiguration sentinelConfig =
+				new RedisSentinelConfiguration(sentinelMaster, Set.copyOf(splitNodes(sentinelNodes)));
+			if (redisPassword != null && !redisPassword.isBlank()) {
+				sentinelConfig.setPassword(redisPassword);
+			}
+			return sentinelConfig;
+		}
+
 		RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration();
 		redisConfig.setHostName(redisHost);
 		redisConfig.setPort(redisPort);
@@ -36,7 +130,10 @@ public class RedisConfig {
 		if (redisPassword != null && !redisPassword.isBlank()) {
 			redisConfig.setPassword(redisPassword);
 		}
+		return redisConfig;
+	}
 
+	private LettuceClientConfiguration clientConfiguration(ReadFrom readFrom) {
 		LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfigBuilder =
 			LettuceClientConfiguration.builder()
 				.commandTimeout(Duration.ofSeconds(60))
@@ -46,12 +143,23 @@ public class RedisConfig {
 			clientConfigBuilder.useSsl();
 		}
 
-		LettuceClientConfiguration clientConfig = clientConfigBuilder.build();
-		return new LettuceConnectionFactory(redisConfig, clientConfig);
+		if ("cluster".equalsIgnoreCase(redisMode)) {
+			clientConfigBuilder.clientOptions(ClusterClientOptions.builder()
+				.topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+					.enableAllAdaptiveRefreshTriggers()
+					.enablePeriodicRefresh(Duration.ofSeconds(60))
+					.build())
+				.build());
+		}
+
+		if (readFrom != null && readFrom != ReadFrom.UPSTREAM) {
+			clientConfigBuilder.readFrom(readFrom);
+		}
+
+		return clientConfigBuilder.build();
 	}
 
-	@Bean
-	public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
+	private static RedisTemplate<String, String> stringTemplate(RedisConnectionFactory connectionFactory) {
 		RedisTemplate<String, String> template = new RedisTemplate<>();
 		template.setConnectionFactory(connectionFactory);
 		template.setKeySerializer(new StringRedisSerializer());
@@ -60,4 +168,11 @@ public class RedisConfig {
 		template.setHashValueSerializer(new StringRedisSerializer());
 		return template;
 	}
+
+	private static List<String> splitNodes(String nodes) {
+		return Arrays.stream(nodes.split(","))
+			.map(String::trim)
+			.filter(node -> !node.isEmpty())
+			.collect(Collectors.toList());
+	}
 }
@@ -1,38 +1,67 @@
 package app.global.config;
 
+import app.auth.service.AccessTokenRevocationService;
+import app.auth.service.JwtKeyManager;
+import app.global.jwt.JwtAccessDeniedHandler;
+import app.global.jwt.JwtAuthenticationEntryPoint;
+import app.global.jwt.KeyringJwtDecoder;
+import app.global.jwt.RoleAuthoritiesConverter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
 @EnableMethodSecurity
+@EnableConfigurationProperties(InternalClientProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+  private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+  private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+  private final InternalClientProperties internalClientProperties;
+
+  @Value("${jwt.issuer}")
+  private String issuer;
+
   @Bean
   public PasswordEncoder passwordEncoder() {
     return new BCryptPasswordEncoder();
   }
 
+  /**
+   * actuator 경로는 management 포트(MANAGEMENT_PORT)에서만 열리고, 본 포트에서는 /livez, /readyz 프로브만 응답한다.
+   */
   @Bean
   @Order(1)
   public SecurityFilterChain publicEndpointsSecurityFilterChain(HttpSecurity http) throws Exception {
     http.securityMatcher(
             "/actuator/health",
+            "/actuator/health/**",
             "/actuator/info",
+            "/actuator/prometheus",
+            "/livez",
+            "/readyz",
             "/public/**",
             "/mongo/stores/**",
             "/jobs/**",
@@ -45,6 +74,75 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * 내부 토큰 발급 경로(단건, 일괄). auth.internal-token.clients 에 등록된 서비스만 client_id/client_secret(HTTP Basic)으로 인증해 호출할 수 있고,
+   * 발급된 토큰에는 인증된 client_id 가 실린다.
+   */
+  @Bean
+  @Order(2)
+  public SecurityFilterChain tokenEndpointSecurityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder)
+      throws Exception {
+    DaoAuthenticationProvider clientAuthenticationProvider = new DaoAuthenticationProvider(internalClients());
+    clientAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+    http.securityMatcher("/oauth2/token", "/oauth2/token/batch")
+        .authenticationManager(new ProviderManager(clientAuthenticationProvider))
+        .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .httpBasic(basic -> basic.authenticationEntryPoint(jwtAuthenticationEntryPoint));
+    return http.build();
+  }
+
+  /**
+   * 내부 서비스 전용 경로. 같은 키링으로 서명되지만 aud=internal-services, token_use=internal 이고
+   * 지금도 등록되어 있는 client_id 가 실린 내부 토큰만 받는다. 사용자 액세스 토큰이나 리프레시 토큰은 거부한다.
+   * 내부 토큰의 user_role 은 권한으로 바꾸지 않고, 주체는 client_id 다.
+   */
+  @Bean
+  @Order(3)
+  public SecurityFilterChain internalServiceSecurityFilterChain(HttpSecurity http, JwtKeyManager jwtKeyManager)
+      throws Exception {
+    JwtDecoder internalJwtDecoder = new KeyringJwtDecoder(jwtKeyManager,
+        KeyringJwtDecoder.internalTokenValidator(issuer, internalClientProperties::isRegistered), null);
+    JwtAuthenticationConverter internalAuthenticationConverter = new JwtAuthenticationConverter();
+    internalAuthenticationConverter.setPrincipalClaimName("client_id");
+    http.securityMatcher("/internal/users/**")
+        .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .oauth2ResourceServer(oauth2 -> oauth2
+            .jwt(jwt -> jwt.decoder(internalJwtDecoder).jwtAuthenticationConverter(internalAuthenticationConverter))
+            .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+            .accessDeniedHandler(jwtAccessDeniedHandler));
+    return http.build();
+  }
+
+  private InMemoryUserDetailsManager internalClients() {
+    List<UserDetails> clients = internalClientProperties.clients().entrySet().stream()
+        .map(client -> User.withUsername(client.getKey()).password(client.getValue()).roles("INTERNAL_CLIENT").build())
+        .toList();
+    return new InMemoryUserDetailsManager(clients);
+  }
+
+  /**
+   * 공개 경로를 제외한 나머지. 로그인, JWKS, 폐기 목록은 토큰 없이 호출된다.
+   */
+  @Bean
+  @Order(4)
+  public SecurityFilterChain authenticatedSecurityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+      JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
+    http.authorizeHttpRequests(auth -> auth
+            .requestMatchers("/auth/login", "/oauth/jwks", "/oauth/revocations/**", "/error")
+            .permitAll()
+            .anyRequest().authenticated())
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .oauth2ResourceServer(oauth2 -> oauth2
+            .jwt(jwt -> jwt.decoder(jwtDecoder).jwtAuthenticationConverter(jwtAuthenticationConverter))
+            .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+            .accessDeniedHandler(jwtAccessDeniedHandler));
+    return http.build();
+  }
 
   @Bean
   public CorsConfigurationSource corsConfigurationSource() {
@@ -59,14 +157,20 @@ public class SecurityConfig {
     return source;
   }
 
+  /**
+   * 자기 자신의 /oauth/jwks 를 HTTP 로 받아오는 대신 JwtKeyManager 의 키링으로 바로 검증하고, 폐기된 jti 는 거부한다.
+   * 사용자 요청에는 이 서비스가 발급한 액세스 토큰만 받는다. 내부 토큰과 리프레시 토큰은 여기서 거부된다.
+   */
   @Bean
-  public JwtAuthenticationConverter jwtAuthenticationConverter() {
-    JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
-    grantedAuthoritiesConverter.setAuthoritiesClaimName("roles");
-    grantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
+  public JwtDecoder jwtDecoder(JwtKeyManager jwtKeyManager, AccessTokenRevocationService accessTokenRevocationService) {
+    return new KeyringJwtDecoder(jwtKeyManager, KeyringJwtDecoder.accessTokenValidator(issuer),
+        accessTokenRevocationService);
+  }
 
+  @Bean
+  public JwtAuthenticationConverter jwtAuthenticationConverter() {
     JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-    jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
+    jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(new RoleAuthoritiesConverter());
     return jwtAuthenticationConverter;
   }
 }
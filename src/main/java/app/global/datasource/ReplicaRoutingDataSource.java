@@ -0,0 +1,155 @@
+package app.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * read-only 트랜잭션용 DataSource. 건강한 replica 를 돌아가며 고르고, 없거나 연결에 실패하면 primary 로 보낸다.
+ * replica 는 주기적으로 복제 지연을 확인해 max-lag 를 넘거나 응답하지 않으면 다음 확인 때까지 제외된다.
+ * 처음 확인이 끝나기 전까지는 모든 replica 를 제외한 상태로 시작한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+	/**
+	 * 수신한 WAL 을 모두 재생했다면 지연 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간. primary 로 승격된 노드는 0 을 돌려준다.
+	 * WAL receiver 가 streaming 상태가 아니면 primary 와 끊긴 것이므로 receive/replay LSN 이 같아도 지연을 알 수 없다(NULL).
+	 * pg_stat_wal_receiver 의 status 는 pg_read_all_stats(pg_monitor) 권한이 있어야 보이며, 없으면 replica 는 계속 제외된다.
+	 */
+	private static final String LAG_QUERY = """
+		SELECT CASE
+		         WHEN NOT pg_is_in_recovery() THEN 0
+		         WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+		         WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+		         ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)
+		       END
+		""";
+
+	/**
+	 * 지연을 알 수 없을 때 gauge 에 기록하는 값.
+	 */
+	private static final long UNKNOWN_LAG = -1;
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final Duration maxLag;
+	private final AtomicInteger next = new AtomicInteger();
+	private final Counter primaryFallbacks;
+
+	public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, Duration maxLag,
+		MeterRegistry registry) {
+		this.primary = primary;
+		this.maxLag = maxLag;
+		this.replicas = replicas.stream()
+			.map(dataSource -> new Replica(dataSource, Counter.builder("auth.datasource.read.route")
+				.tag("target", dataSource.getPoolName())
+				.register(registry)))
+			.toList();
+		this.primaryFallbacks = Counter.builder("auth.datasource.read.route")
+			.tag("target", "primary")
+			.register(registry);
+
+		for (Replica replica : this.replicas) {
+			Gauge.builder("auth.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+				.tag("target", replica.name())
+				.register(registry);
+			Gauge.builder("auth.datasource.replica.lag", replica, r -> r.lagMillis)
+				.tag("target", replica.name())
+				.baseUnit("milliseconds")
+				.register(registry);
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		int size = replicas.size();
+		int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (!replica.healthy) {
+				continue;
+			}
+			try {
+				Connection connection = replica.dataSource.getConnection();
+				replica.routed.increment();
+				return connection;
+			} catch (SQLException e) {
+				replica.healthy = false;
+				log.warn("replica 연결 실패, 다음 상태 확인까지 제외합니다 - target: {}, error: {}", replica.name(),
+					e.toString());
+			}
+		}
+		primaryFallbacks.increment();
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Routing is only supported for the configured pool credentials");
+	}
+
+	@Scheduled(fixedDelayString = "${auth.datasource.replica.health-interval:PT5S}")
+	public void checkHealth() {
+		for (Replica replica : replicas) {
+			boolean wasHealthy = replica.healthy;
+			try (Connection connection = replica.dataSource.getConnection();
+				 Statement statement = connection.createStatement()) {
+				statement.setQueryTimeout((int)Math.max(1, maxLag.toSeconds()));
+				try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+					resultSet.next();
+					long lagMillis = resultSet.getLong(1);
+					replica.lagMillis = resultSet.wasNull() ? UNKNOWN_LAG : lagMillis;
+				}
+				replica.healthy = replica.lagMillis != UNKNOWN_LAG && replica.lagMillis <= maxLag.toMillis();
+			} catch (SQLException e) {
+				replica.healthy = false;
+				log.debug("replica 상태 확인 실패 - target: {}, error: {}", replica.name(), e.toString());
+			}
+			if (wasHealthy != replica.healthy) {
+				log.warn("replica 상태 변경 - target: {}, healthy: {}, lagMillis: {}", replica.name(), replica.healthy,
+					replica.lagMillis);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		replicas.forEach(replica -> replica.dataSource.close());
+	}
+
+	private static final class Replica {
+
+		private final HikariDataSource dataSource;
+		private final Counter routed;
+		private volatile boolean healthy;
+		private volatile long lagMillis;
+
+		private Replica(HikariDataSource dataSource, Counter routed) {
+			this.dataSource = dataSource;
+			this.routed = routed;
+		}
+
+		private String name() {
+			return dataSource.getPoolName();
+		}
+	}
+}
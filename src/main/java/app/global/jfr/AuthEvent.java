@@ -0,0 +1,58 @@
+package app.global.jfr;
+
+import app.global.metrics.AuthMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@link AuthMetrics} 가 Timer 와 함께 남기는 JFR 이벤트의 공통 필드.
+ * 이벤트를 켠 레코딩이 없으면 begin/commit 은 사실상 비용이 없다.
+ */
+@Category({"Application", "Auth"})
+@StackTrace(false)
+public abstract class AuthEvent extends Event {
+
+	@Label("Timer")
+	String timer;
+
+	@Label("Tags")
+	String tags;
+
+	@Label("Outcome")
+	String outcome;
+
+	public static AuthEvent start(String timer) {
+		AuthEvent event = switch (timer) {
+			case AuthMetrics.LOGIN_STAGE -> new LoginStageEvent();
+			case AuthMetrics.KMS_SIGN, AuthMetrics.KMS_PUBLIC_KEY -> new KmsCallEvent();
+			case AuthMetrics.REFRESH_TOKEN_OPERATION -> new RefreshTokenEvent();
+			default -> new AuthOperationEvent();
+		};
+		event.begin();
+		return event;
+	}
+
+	public void finish(String timer, String[] tags, String outcome) {
+		end();
+		if (!shouldCommit()) {
+			return;
+		}
+		this.timer = timer;
+		this.tags = joinTags(tags);
+		this.outcome = outcome;
+		commit();
+	}
+
+	private static String joinTags(String[] tags) {
+		StringBuilder joined = new StringBuilder();
+		for (int i = 0; i + 1 < tags.length; i += 2) {
+			if (!joined.isEmpty()) {
+				joined.append(',');
+			}
+			joined.append(tags[i]).append('=').append(tags[i + 1]);
+		}
+		return joined.toString();
+	}
+}
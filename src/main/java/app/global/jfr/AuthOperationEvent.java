@@ -0,0 +1,11 @@
+package app.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.auth.Operation")
+@Label("Auth Operation")
+@Description("그 밖의 계측 구간 (JWKS 응답, 내부 토큰 발급 등)")
+public class AuthOperationEvent extends AuthEvent {
+}
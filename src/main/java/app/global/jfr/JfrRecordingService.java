@@ -0,0 +1,104 @@
+package app.global.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import app.global.apiPayload.code.status.ErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 시에만 켜지는 JFR 레코딩. 평소에는 인증 이벤트가 꺼져 있어 begin/commit 비용이 거의 없다.
+ * 레코딩은 한 번에 하나만 허용하고, 길이와 크기는 설정값으로 제한한다.
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+	private static final List<Class<? extends Event>> AUTH_EVENTS = List.of(
+		LoginStageEvent.class,
+		KmsCallEvent.class,
+		RefreshTokenEvent.class,
+		AuthOperationEvent.class,
+		KeyRotationEvent.class,
+		JwksRegenerationEvent.class
+	);
+
+	@Value("${auth.diagnostics.jfr.max-duration:PT5M}")
+	private Duration maxDuration;
+
+	@Value("${auth.diagnostics.jfr.max-size:64MB}")
+	private DataSize maxSize;
+
+	private Recording recording;
+
+	/**
+	 * 인증 이벤트를 켠 레코딩을 시작한다. includeJdkEvents 면 JDK 의 default 설정(GC, 스레드, I/O 등)도 함께 켠다.
+	 * duration 이 지나면 자동으로 멈추고, 멈춘 레코딩은 다음 레코딩을 시작할 때까지 내려받을 수 있다.
+	 */
+	public synchronized RecordingInfo start(Duration duration, boolean includeJdkEvents) {
+		if (recording != null && recording.getState() == RecordingState.RUNNING) {
+			throw new GeneralException(ErrorStatus.JFR_RECORDING_IN_PROGRESS);
+		}
+		if (recording != null) {
+			recording.close();
+		}
+
+		Duration bounded = duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0
+			? maxDuration
+			: duration;
+
+		Recording created = includeJdkEvents ? new Recording(defaultConfiguration()) : new Recording();
+		created.setName("auth-" + Instant.now().getEpochSecond());
+		AUTH_EVENTS.forEach(event -> created.enable(event).withThreshold(Duration.ZERO));
+		created.setDuration(bounded);
+		created.setMaxSize(maxSize.toBytes());
+		created.setToDisk(true);
+		created.start();
+		this.recording = created;
+
+		log.info("JFR 레코딩 시작 - name: {}, duration: {}, jdkEvents: {}", created.getName(), bounded, includeJdkEvents);
+		return new RecordingInfo(created.getName(), created.getState().name(), bounded.toSeconds(), maxSize.toBytes());
+	}
+
+	/**
+	 * 현재(또는 마지막) 레코딩을 임시 파일로 덤프한다. 실행 중이면 지금까지의 내용이 담긴다. 호출 측이 파일을 지워야 한다.
+	 */
+	public synchronized Path dump() {
+		if (recording == null || recording.getState() == RecordingState.CLOSED) {
+			throw new GeneralException(ErrorStatus.JFR_RECORDING_NOT_FOUND);
+		}
+		try {
+			Path file = Files.createTempFile(recording.getName() + "-", ".jfr");
+			recording.dump(file);
+			return file;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Configuration defaultConfiguration() {
+		try {
+			return Configuration.getConfiguration("default");
+		} catch (IOException | ParseException e) {
+			throw new IllegalStateException("JFR default configuration is not available", e);
+		}
+	}
+
+	public record RecordingInfo(String name, String state, long durationSeconds, long maxSizeBytes) {
+	}
+}
@@ -0,0 +1,19 @@
+package app.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("app.auth.JwksRegeneration")
+@Label("JWKS Regeneration")
+@Description("캐시된 JWKS 가 무효화된 뒤 다시 만들어질 때")
+@Category({"Application", "Auth"})
+@StackTrace(false)
+public class JwksRegenerationEvent extends Event {
+
+	@Label("Key Count")
+	public int keyCount;
+}
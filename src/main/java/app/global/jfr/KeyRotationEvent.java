@@ -0,0 +1,25 @@
+package app.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("app.auth.KeyRotation")
+@Label("Signing Key Rotation")
+@Description("로컬 키 생성 또는 KMS 활성 키 변경")
+@Category({"Application", "Auth"})
+@StackTrace(false)
+public class KeyRotationEvent extends Event {
+
+	@Label("Mode")
+	public String mode;
+
+	@Label("Previous Key Id")
+	public String previousKid;
+
+	@Label("Key Id")
+	public String kid;
+}
@@ -0,0 +1,18 @@
+package app.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.auth.KmsCall")
+@Label("KMS Call")
+@Description("KMS Sign / GetPublicKey 호출")
+public class KmsCallEvent extends AuthEvent {
+
+	@Label("Key Id")
+	String keyId;
+
+	public void setKeyId(String keyId) {
+		this.keyId = keyId;
+	}
+}
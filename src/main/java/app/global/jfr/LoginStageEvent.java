@@ -0,0 +1,11 @@
+package app.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.auth.LoginStage")
+@Label("Login Stage")
+@Description("AuthService.login 의 단계 하나 (user_lookup, password_match, access_token_sign, refresh_token_sign, redis_write)")
+public class LoginStageEvent extends AuthEvent {
+}
@@ -0,0 +1,11 @@
+package app.global.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.auth.RefreshTokenOperation")
+@Label("Refresh Token Operation")
+@Description("RefreshTokenService 의 Redis 토큰 작업 (create, rotate, revoke, revoke_bulk)")
+public class RefreshTokenEvent extends AuthEvent {
+}
@@ -26,6 +26,9 @@ public class JwtTokenProvider {
 
 	private final JwtKeyManager jwtKeyManager;
 
+	@Value("${jwt.issuer}")
+	private String issuer;
+
 	@Value("${jwt.refresh-token-validity-in-milliseconds}")
 	private long refreshTokenValidityMs;
 
@@ -44,6 +47,8 @@ public class JwtTokenProvider {
 		String kid = activeKey.kid();
 
 		return Jwts.builder()
+			.issuer(issuer)
+			.claim("token_use", "refresh")
 			.issuedAt(Date.from(now))
 			.expiration(Date.from(validity))
 			.header().keyId(kid).and()
@@ -51,8 +56,15 @@ public class JwtTokenProvider {
 			.compact();
 	}
 
-	public String createInternalToken(String userId,String userRole) {
-		Instant now = Instant.now();
+	public String createInternalToken(String clientId, String userId, String userRole) {
+		return createInternalToken(clientId, userId, userRole, Instant.now());
+	}
+
+	/**
+	 * 발급 시각을 호출 측이 정한다. iat/exp 는 초 단위로 직렬화되므로 초 단위로 자른 시각을 넘기면 exp 를 정확히 알 수 있다.
+	 * client_id 는 토큰을 요청한 내부 서비스로, /internal/** 은 지금도 등록되어 있는 client_id 가 실린 토큰만 받는다.
+	 */
+	public String createInternalToken(String clientId, String userId, String userRole, Instant now) {
 		Instant validity = now.plusMillis(internalTokenValidityMs);
 
 		KeyEntry activeKey = jwtKeyManager.getActiveKey();
@@ -63,9 +75,12 @@ public class JwtTokenProvider {
 		String kid = activeKey.kid();
 
 		return Jwts.builder()
+			.issuer(issuer)
 			.claim("aud", "internal-services")
+			.claim("client_id", clientId)
 			.claim("user_id", userId)
 			.claim("user_role", userRole)
+			.claim("token_use", "internal")
 			.issuedAt(Date.from(now))
 			.expiration(Date.from(validity))
 			.header().keyId(kid).and()
@@ -0,0 +1,141 @@
+package app.global.jwt;
+
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.SignedJWT;
+
+import app.auth.service.AccessTokenRevocationService;
+import app.auth.service.JwtKeyManager;
+
+/**
+ * JwtKeyManager 의 키링에서 kid 로 공개키를 찾아 검증하는 JwtDecoder. 자기 자신의 /oauth/jwks 를 HTTP 로 받아오지 않는다.
+ * 검증기는 kid 별로 한 번 만들어 재사용하고, 같은 kid 의 공개키가 바뀌면(KMS 공개키 갱신) 다시 만든다.
+ * 알 수 없는 kid 는 키링에 없는 키로 서명된 것이므로 바로 거부한다.
+ * 폐기 피드가 주어지면 서명과 클레임 검증을 통과한 토큰의 jti 가 폐기되었는지도 확인한다. 위조 토큰으로 필터를 두드릴 수 없도록 서명 검증 뒤에 본다.
+ * 액세스 토큰, 내부 토큰, 리프레시 토큰이 모두 같은 키링으로 서명되므로 필터 체인마다 iss, aud, token_use 를 검증기로 묶어 넘긴다.
+ */
+public class KeyringJwtDecoder implements JwtDecoder {
+
+	public static final String TOKEN_USE = "token_use";
+
+	private final JwtKeyManager jwtKeyManager;
+	private final Map<String, CachedVerifier> verifiers = new ConcurrentHashMap<>();
+	private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+		MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+	private final OAuth2TokenValidator<Jwt> validator;
+	private final AccessTokenRevocationService revocationService;
+
+	public KeyringJwtDecoder(JwtKeyManager jwtKeyManager) {
+		this(jwtKeyManager, JwtValidators.createDefault(), null);
+	}
+
+	public KeyringJwtDecoder(JwtKeyManager jwtKeyManager, AccessTokenRevocationService revocationService) {
+		this(jwtKeyManager, JwtValidators.createDefault(), revocationService);
+	}
+
+	public KeyringJwtDecoder(JwtKeyManager jwtKeyManager, OAuth2TokenValidator<Jwt> validator,
+		AccessTokenRevocationService revocationService) {
+		this.jwtKeyManager = jwtKeyManager;
+		this.validator = validator;
+		this.revocationService = revocationService;
+	}
+
+	/**
+	 * 사용자 요청 체인용. aud=external-service 이고 token_use=access 인 토큰만 받는다.
+	 */
+	public static OAuth2TokenValidator<Jwt> accessTokenValidator(String issuer) {
+		return tokenValidator(issuer, "external-service", "access");
+	}
+
+	/**
+	 * 내부 서비스 체인용. aud=internal-services 이고 token_use=internal 이며, client_id 가 지금도 등록된 서비스인 토큰만 받는다.
+	 */
+	public static OAuth2TokenValidator<Jwt> internalTokenValidator(String issuer, Predicate<String> registeredClient) {
+		return new DelegatingOAuth2TokenValidator<>(
+			tokenValidator(issuer, "internal-services", "internal"),
+			new JwtClaimValidator<String>("client_id", clientId -> clientId != null && registeredClient.test(clientId)));
+	}
+
+	private static OAuth2TokenValidator<Jwt> tokenValidator(String issuer, String audience, String tokenUse) {
+		return new DelegatingOAuth2TokenValidator<>(
+			JwtValidators.createDefaultWithIssuer(issuer),
+			new JwtClaimValidator<List<String>>(JwtClaimNames.AUD, aud -> aud != null && aud.contains(audience)),
+			new JwtClaimValidator<String>(TOKEN_USE, tokenUse::equals));
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		SignedJWT signedJwt;
+		Map<String, Object> claims;
+		try {
+			signedJwt = SignedJWT.parse(token);
+			claims = signedJwt.getJWTClaimsSet().getClaims();
+		} catch (ParseException e) {
+			throw new BadJwtException("Malformed token", e);
+		}
+
+		if (!JWSAlgorithm.RS256.equals(signedJwt.getHeader().getAlgorithm())) {
+			throw new BadJwtException("Unsupported algorithm: " + signedJwt.getHeader().getAlgorithm());
+		}
+		String kid = signedJwt.getHeader().getKeyID();
+		RSAPublicKey publicKey = jwtKeyManager.getPublicKeyById(kid)
+			.orElseThrow(() -> new BadJwtException("Unknown signing key: " + kid));
+
+		try {
+			if (!verifier(kid, publicKey).verify(signedJwt.getHeader(), signedJwt.getSigningInput(),
+				signedJwt.getSignature())) {
+				throw new BadJwtException("Invalid signature");
+			}
+		} catch (JOSEException e) {
+			throw new BadJwtException("Signature verification failed", e);
+		}
+
+		Jwt jwt = Jwt.withTokenValue(token)
+			.headers(headers -> headers.putAll(signedJwt.getHeader().toJSONObject()))
+			.claims(values -> values.putAll(claimSetConverter.convert(claims)))
+			.build();
+		OAuth2TokenValidatorResult result = validator.validate(jwt);
+		if (result.hasErrors()) {
+			throw new JwtValidationException("Invalid token", result.getErrors());
+		}
+		if (revocationService != null && revocationService.isRevoked(jwt.getId(), jwt.getExpiresAt())) {
+			throw new BadJwtException("Token has been revoked");
+		}
+		return jwt;
+	}
+
+	private RSASSAVerifier verifier(String kid, RSAPublicKey publicKey) {
+		CachedVerifier cached = verifiers.get(kid);
+		if (cached == null || cached.publicKey() != publicKey) {
+			cached = new CachedVerifier(publicKey, new RSASSAVerifier(publicKey));
+			verifiers.put(kid, cached);
+		}
+		return cached.verifier();
+	}
+
+	private record CachedVerifier(RSAPublicKey publicKey, RSASSAVerifier verifier) {
+	}
+}
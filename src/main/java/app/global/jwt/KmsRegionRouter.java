@@ -0,0 +1,202 @@
+package app.global.jwt;
+
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import com.nimbusds.jose.JWSSigner;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.kms.KmsClient;
+
+/**
+ * 같은 KMS 키의 multi-region replica 를 리전마다 하나씩 두고, 최근 호출 지연의 EWMA 가 가장 낮은 리전부터 시도한다.
+ * SDK 예외(스로틀링, 5xx, 타임아웃, 연결 실패 등)로 실패한 리전은 failover-cooldown 동안 뒤로 밀리고 다음 리전으로 넘어간다.
+ * 아직 측정되지 않은 리전은 측정된 리전 뒤에 설정 순서대로 오므로 처음에는 첫 번째(primary) 리전을 쓴다.
+ * 공개키가 로드되지 않은 리전은 그 kid 를 JWKS 에 실을 수 없으므로 고르지 않는다.
+ */
+@Slf4j
+public class KmsRegionRouter {
+
+	private final List<Region> regions;
+	private final double alpha;
+	private final long cooldownNanos;
+	private final MeterRegistry registry;
+
+	public KmsRegionRouter(List<Region> regions, double alpha, Duration cooldown, MeterRegistry registry) {
+		if (regions.isEmpty()) {
+			throw new IllegalArgumentException("At least one KMS region is required");
+		}
+		this.regions = List.copyOf(regions);
+		this.alpha = alpha;
+		this.cooldownNanos = cooldown.toNanos();
+		this.registry = registry;
+
+		for (Region region : this.regions) {
+			Gauge.builder("auth.kms.region.latency", region, r -> r.ewmaNanos / 1_000_000.0)
+				.tag("region", region.name())
+				.baseUnit("milliseconds")
+				.register(registry);
+			Gauge.builder("auth.kms.region.available", region, r -> r.isAvailable(System.nanoTime()) ? 1 : 0)
+				.tag("region", region.name())
+				.register(registry);
+		}
+	}
+
+	public List<Region> regions() {
+		return regions;
+	}
+
+	/**
+	 * 준비된 리전을 지연이 낮은 순서로 시도한다. 리전 문제가 아닌 예외는 그대로 던지고, 모든 리전이 실패하면 마지막 예외를 던진다.
+	 */
+	public <T> T call(Function<Region, T> call) {
+		List<Region> candidates = candidates(System.nanoTime());
+		if (candidates.isEmpty()) {
+			throw new IllegalStateException("No KMS region has a loaded public key");
+		}
+		RuntimeException last = null;
+		for (int i = 0; i < candidates.size(); i++) {
+			Region region = candidates.get(i);
+			try {
+				return callIn(region, call);
+			} catch (RuntimeException e) {
+				if (regionalFailure(e) == null) {
+					throw e;
+				}
+				last = e;
+				if (i + 1 < candidates.size()) {
+					log.warn("KMS 호출 실패, 다음 리전으로 넘어갑니다 - region: {}, next: {}, error: {}", region.name(),
+						candidates.get(i + 1).name(), e.toString());
+				}
+			}
+		}
+		throw last;
+	}
+
+	/**
+	 * 특정 리전에서만 호출하고 결과로 그 리전의 지연과 상태를 갱신한다. 공개키 로드처럼 리전마다 해야 하는 호출에 쓴다.
+	 */
+	public <T> T callIn(Region region, Function<Region, T> call) {
+		long start = System.nanoTime();
+		try {
+			T result = call.apply(region);
+			region.observe(System.nanoTime() - start, alpha);
+			return result;
+		} catch (RuntimeException e) {
+			SdkException cause = regionalFailure(e);
+			if (cause != null) {
+				long now = System.nanoTime();
+				region.unavailableUntil = now + cooldownNanos;
+				registry.counter("auth.kms.region.failure", "region", region.name(), "reason", reason(cause))
+					.increment();
+			}
+			throw e;
+		}
+	}
+
+	private List<Region> candidates(long now) {
+		List<Region> ready = new ArrayList<>(regions.size());
+		for (Region region : regions) {
+			if (region.publishedKey != null) {
+				ready.add(region);
+			}
+		}
+		// List.sort 는 안정 정렬이라 측정되지 않은 리전끼리는 설정 순서가 유지된다.
+		ready.sort(Comparator.comparing((Region region) -> region.unavailableUntil - now > 0)
+			.thenComparingDouble(region -> Double.isNaN(region.ewmaNanos) ? Double.MAX_VALUE : region.ewmaNanos));
+		return ready;
+	}
+
+	private static SdkException regionalFailure(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SdkException sdkException) {
+				return sdkException;
+			}
+		}
+		return null;
+	}
+
+	private static String reason(SdkException e) {
+		if (e instanceof AwsServiceException serviceException && serviceException.awsErrorDetails() != null
+			&& serviceException.awsErrorDetails().errorCode() != null) {
+			return serviceException.awsErrorDetails().errorCode();
+		}
+		return e.getClass().getSimpleName();
+	}
+
+	/**
+	 * 스프링이 kmsClient 빈으로 닫는 첫 번째 리전을 뺀 나머지 리전의 클라이언트를 닫는다.
+	 */
+	public void close() {
+		regions.stream().skip(1).forEach(region -> region.client().close());
+	}
+
+	public static final class Region {
+
+		private final String name;
+		private final String keyId;
+		private final KmsClient client;
+		private final JWSSigner signer;
+		private volatile PublishedKey publishedKey;
+		private volatile double ewmaNanos = Double.NaN;
+		private volatile long unavailableUntil = System.nanoTime();
+
+		public Region(String name, String keyId, KmsClient client, JWSSigner signer) {
+			this.name = name;
+			this.keyId = keyId;
+			this.client = client;
+			this.signer = signer;
+		}
+
+		public String name() {
+			return name;
+		}
+
+		public String keyId() {
+			return keyId;
+		}
+
+		public KmsClient client() {
+			return client;
+		}
+
+		public JWSSigner signer() {
+			return signer;
+		}
+
+		/**
+		 * 이 리전에서 GetPublicKey 로 확인한 kid 와 공개키. 로드 전에는 null 이다.
+		 */
+		public PublishedKey publishedKey() {
+			return publishedKey;
+		}
+
+		public void publish(PublishedKey publishedKey) {
+			this.publishedKey = publishedKey;
+		}
+
+		public String kid() {
+			PublishedKey key = publishedKey;
+			return key == null ? null : key.kid();
+		}
+
+		private boolean isAvailable(long now) {
+			return publishedKey != null && unavailableUntil - now <= 0;
+		}
+
+		private synchronized void observe(long nanos, double alpha) {
+			ewmaNanos = Double.isNaN(ewmaNanos) ? nanos : alpha * nanos + (1 - alpha) * ewmaNanos;
+		}
+	}
+
+	public record PublishedKey(String kid, RSAPublicKey publicKey) {
+	}
+}
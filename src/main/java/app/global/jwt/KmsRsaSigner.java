@@ -4,8 +4,10 @@ import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.impl.BaseJWSProvider;
 import com.nimbusds.jose.util.Base64URL;
 
+import app.global.metrics.AuthMetrics;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.kms.KmsClient;
 import software.amazon.awssdk.services.kms.model.*;
 import java.security.MessageDigest;
@@ -17,18 +19,28 @@ public class KmsRsaSigner extends BaseJWSProvider implements JWSSigner {
 	private final KmsClient kms;
 	private final String keyId;
 	private final SigningAlgorithmSpec kmsAlg;
+	private final AuthMetrics authMetrics;
+	private final String region;
 
-	public KmsRsaSigner(KmsClient kms, String keyId, SigningAlgorithmSpec kmsAlg) {
+	public KmsRsaSigner(KmsClient kms, String keyId, SigningAlgorithmSpec kmsAlg, AuthMetrics authMetrics,
+		String region) {
 		super(kmsAlg == SigningAlgorithmSpec.RSASSA_PSS_SHA_256
 			? Collections.singleton(JWSAlgorithm.PS256)
 			: Collections.singleton(JWSAlgorithm.RS256));
 		this.kms = kms;
 		this.keyId = keyId;
 		this.kmsAlg = kmsAlg;
+		this.authMetrics = authMetrics;
+		this.region = region;
 	}
 
 	@Override
 	public Base64URL sign(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+		return authMetrics.recordKmsCall(AuthMetrics.KMS_SIGN, keyId, () -> signWithKms(signingInput),
+			"region", region);
+	}
+
+	private Base64URL signWithKms(byte[] signingInput) throws JOSEException {
 		try {
 			MessageDigest md = MessageDigest.getInstance("SHA-256");
 			byte[] digest = md.digest(signingInput);
@@ -46,6 +58,9 @@ public class KmsRsaSigner extends BaseJWSProvider implements JWSSigner {
 			String code = e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : "KmsException";
 			String msg  = e.awsErrorDetails() != null ? e.awsErrorDetails().errorMessage() : e.getMessage();
 			throw new JOSEException("KMS sign failed: " + code + " - " + msg, e);
+		} catch (SdkClientException e) {
+			// 타임아웃, 연결 실패. KmsRegionRouter 가 다음 리전으로 넘긴다.
+			throw new JOSEException("KMS sign failed: " + e.getMessage(), e);
 		} catch (Exception e) {
 			log.error("JWT sign failed", e); // ★ root cause 로그
 			throw new IllegalStateException("JWT sign failed: " + e.getMessage(), e);
@@ -7,18 +7,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import app.auth.service.JwtKeyManager;
-
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Profile("prod")
 public class KmsTokenProvider implements AccessTokenProvider {
 
-	private final KmsRsaSigner kmsSigner;           // KMS 서명기 (Config 에서 @Bean 등록)
-	private final JwtKeyManager jwtKeyManager;      // kid 조회용
+	private final KmsRegionRouter kmsRegionRouter;  // 리전별 KMS 서명기 (KmsConfig 에서 @Bean 등록)
 
 	@Value("${jwt.issuer}") private String issuer;
 	@Value("${jwt.access-validity-seconds}") private long accessValiditySec;
@@ -31,14 +29,8 @@ public class KmsTokenProvider implements AccessTokenProvider {
 		Instant now = Instant.now();
 		Instant exp = now.plusSeconds(accessValiditySec);
 
-		String kid = jwtKeyManager.getActiveKid(); // 하드코딩 금지, KMS/로컬 공통
-
-		JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
-			.type(JOSEObjectType.JWT)
-			.keyID(kid)
-			.build();
-
 		JWTClaimsSet claims = new JWTClaimsSet.Builder()
+			.jwtID(UUID.randomUUID().toString())
 			.subject(userId)
 			.issuer(issuer)
 			.audience("external-service")
@@ -48,20 +40,13 @@ public class KmsTokenProvider implements AccessTokenProvider {
 			.claim("token_use", "access")
 			.build();
 
-		return signAndSerialize(header, claims);
+		return signAndSerialize(claims);
 	}
 
 	public String createRefreshToken() {
 		Instant now = Instant.now();
 		Instant exp = now.plusMillis(refreshValidityMs);
 
-		String kid = jwtKeyManager.getActiveKid();
-
-		JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
-			.type(JOSEObjectType.JWT)
-			.keyID(kid)
-			.build();
-
 		JWTClaimsSet claims = new JWTClaimsSet.Builder()
 			.issuer(issuer)
 			.issueTime(Date.from(now))
@@ -69,16 +54,25 @@ public class KmsTokenProvider implements AccessTokenProvider {
 			.claim("token_use", "refresh")
 			.build();
 
-		return signAndSerialize(header, claims);
+		return signAndSerialize(claims);
 	}
 
-	private String signAndSerialize(JWSHeader header, JWTClaimsSet claims) {
-		try {
-			SignedJWT jwt = new SignedJWT(header, claims);
-			jwt.sign(kmsSigner);
-			return jwt.serialize();
-		} catch (JOSEException e) {
-			throw new IllegalStateException("JWT sign failed", e);
-		}
+	/**
+	 * kid 는 서명한 리전의 키를 가리켜야 하므로 리전이 정해진 뒤에 헤더를 만든다. 다른 리전으로 넘어가면 헤더도 다시 만든다.
+	 */
+	private String signAndSerialize(JWTClaimsSet claims) {
+		return kmsRegionRouter.call(region -> {
+			JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+				.type(JOSEObjectType.JWT)
+				.keyID(region.kid())
+				.build();
+			try {
+				SignedJWT jwt = new SignedJWT(header, claims);
+				jwt.sign(region.signer());
+				return jwt.serialize();
+			} catch (JOSEException e) {
+				throw new IllegalStateException("JWT sign failed", e);
+			}
+		});
 	}
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package app.global.jwt;
 import java.security.PrivateKey;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -20,6 +21,8 @@ public class LocalTokenProvider implements AccessTokenProvider{
 
 	private final JwtKeyManager jwtKeyManager;
 
+	@Value("${jwt.issuer}")
+	private String issuer;
 
 	@Value("${jwt.refresh-token-validity-in-milliseconds}")
 	private long refreshTokenValidityMs;
@@ -39,9 +42,12 @@ public class LocalTokenProvider implements AccessTokenProvider{
 		String kid = activeKey.kid();
 
 		return Jwts.builder()
+			.id(UUID.randomUUID().toString())
 			.subject(userId)
+			.issuer(issuer)
 			.audience().add("external-service").and()
 			.claim("user_role", roles)
+			.claim("token_use", "access")
 			.issuedAt(Date.from(now))
 			.expiration(Date.from(validity))
 			.header().keyId(kid).and()
@@ -63,6 +69,8 @@ public class LocalTokenProvider implements AccessTokenProvider{
 		String kid = activeKey.kid();
 
 		return Jwts.builder()
+			.issuer(issuer)
+			.claim("token_use", "refresh")
 			.issuedAt(Date.from(now))
 			.expiration(Date.from(validity))
 			.header().keyId(kid).and()
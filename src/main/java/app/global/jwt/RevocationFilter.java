@@ -0,0 +1,155 @@
+package app.global.jwt;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 폐기된 access token jti 를 담는 시간 창 Bloom filter.
+ * jti 는 토큰 만료 시각(exp)이 속한 버킷에만 들어가고, 버킷 구간이 끝나면 통째로 버려지므로 크기가 창 길이에 비례해 고정된다.
+ * 검증 측은 토큰의 exp 로 버킷 하나만 확인하면 된다.
+ *
+ * <p>해시: h1 = FNV-1a 64(UTF-8 jti), h2 = fmix64(h1) | 1, i 번째 비트 = unsigned(h1 + i * h2) mod bitsPerBucket.
+ *
+ * <p>스냅샷 형식(big-endian): int magic "RVK1", UTF version, long bucketWidthSeconds, int hashCount,
+ * int bitsPerBucket, int bucketCount, 그리고 버킷마다 long bucketIndex(exp / bucketWidthSeconds) + long[bitsPerBucket / 64].
+ */
+public class RevocationFilter {
+
+	public static final int SNAPSHOT_MAGIC = 0x52564B31; // "RVK1"
+
+	private final long bucketWidthSeconds;
+	private final int hashCount;
+	private final int bitsPerBucket;
+	private final TreeMap<Long, long[]> buckets = new TreeMap<>();
+
+	public RevocationFilter(Duration bucketWidth, long expectedPerBucket, double falsePositiveRate) {
+		this(bucketWidth.toSeconds(), optimalHashCount(expectedPerBucket, falsePositiveRate),
+			optimalBits(expectedPerBucket, falsePositiveRate));
+	}
+
+	private RevocationFilter(long bucketWidthSeconds, int hashCount, int bitsPerBucket) {
+		if (bucketWidthSeconds <= 0) {
+			throw new IllegalArgumentException("bucketWidth must be positive");
+		}
+		this.bucketWidthSeconds = bucketWidthSeconds;
+		this.hashCount = hashCount;
+		this.bitsPerBucket = bitsPerBucket;
+	}
+
+	public synchronized void add(String jti, long expiresAtEpochSecond) {
+		long[] words = buckets.computeIfAbsent(bucketIndex(expiresAtEpochSecond), k -> new long[bitsPerBucket / 64]);
+		long h1 = fnv1a64(jti);
+		long h2 = fmix64(h1) | 1L;
+		for (int i = 0; i < hashCount; i++) {
+			int bit = (int)Long.remainderUnsigned(h1 + i * h2, bitsPerBucket);
+			words[bit >>> 6] |= 1L << bit;
+		}
+	}
+
+	public synchronized boolean mightContain(String jti, long expiresAtEpochSecond) {
+		long[] words = buckets.get(bucketIndex(expiresAtEpochSecond));
+		if (words == null) {
+			return false;
+		}
+		long h1 = fnv1a64(jti);
+		long h2 = fmix64(h1) | 1L;
+		for (int i = 0; i < hashCount; i++) {
+			int bit = (int)Long.remainderUnsigned(h1 + i * h2, bitsPerBucket);
+			if ((words[bit >>> 6] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 구간이 모두 지난 버킷을 버린다. 그 버킷의 토큰은 이미 만료되었으므로 폐기 여부를 확인할 필요가 없다.
+	 */
+	public synchronized int expire(long nowEpochSecond) {
+		Map<Long, long[]> expired = buckets.headMap(bucketIndex(nowEpochSecond));
+		int dropped = expired.size();
+		expired.clear();
+		return dropped;
+	}
+
+	public synchronized int bucketCount() {
+		return buckets.size();
+	}
+
+	public synchronized void writeTo(DataOutputStream out, String version) throws IOException {
+		out.writeInt(SNAPSHOT_MAGIC);
+		out.writeUTF(version);
+		out.writeLong(bucketWidthSeconds);
+		out.writeInt(hashCount);
+		out.writeInt(bitsPerBucket);
+		out.writeInt(buckets.size());
+		for (Map.Entry<Long, long[]> bucket : buckets.entrySet()) {
+			out.writeLong(bucket.getKey());
+			for (long word : bucket.getValue()) {
+				out.writeLong(word);
+			}
+		}
+	}
+
+	/**
+	 * {@link #writeTo(DataOutputStream, String)} 로 만든 스냅샷을 읽는다. 버전은 호출 측이 먼저 읽어야 하므로 함께 돌려준다.
+	 */
+	public static Snapshot readFrom(DataInputStream in) throws IOException {
+		if (in.readInt() != SNAPSHOT_MAGIC) {
+			throw new IOException("Not a revocation snapshot");
+		}
+		String version = in.readUTF();
+		RevocationFilter filter = new RevocationFilter(in.readLong(), in.readInt(), in.readInt());
+		int bucketCount = in.readInt();
+		for (int b = 0; b < bucketCount; b++) {
+			long index = in.readLong();
+			long[] words = new long[filter.bitsPerBucket / 64];
+			for (int w = 0; w < words.length; w++) {
+				words[w] = in.readLong();
+			}
+			filter.buckets.put(index, words);
+		}
+		return new Snapshot(version, filter);
+	}
+
+	private long bucketIndex(long epochSecond) {
+		return Math.floorDiv(epochSecond, bucketWidthSeconds);
+	}
+
+	static int optimalBits(long expected, double falsePositiveRate) {
+		double bits = -expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+		long rounded = ((long)Math.ceil(bits) + 63) / 64 * 64;
+		return (int)Math.min(Math.max(rounded, 64), Integer.MAX_VALUE - 63);
+	}
+
+	static int optimalHashCount(long expected, double falsePositiveRate) {
+		double bitsPerEntry = (double)optimalBits(expected, falsePositiveRate) / Math.max(1, expected);
+		return Math.max(1, (int)Math.round(bitsPerEntry * Math.log(2)));
+	}
+
+	private static long fnv1a64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static long fmix64(long k) {
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+	public record Snapshot(String version, RevocationFilter filter) {
+	}
+}
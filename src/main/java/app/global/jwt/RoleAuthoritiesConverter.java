@@ -0,0 +1,54 @@
+package app.global.jwt;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 발급 측(LocalTokenProvider, KmsTokenProvider)이 넣는 user_role 클레임을 ROLE_ 권한으로 바꾼다.
+ * 역할 문자열의 종류는 몇 개뿐이므로 변환 결과를 문자열별로 캐시해 요청마다 새 목록을 만들지 않는다.
+ */
+public class RoleAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+	public static final String ROLE_CLAIM = "user_role";
+	private static final String ROLE_PREFIX = "ROLE_";
+
+	/**
+	 * 서명이 검증된 토큰의 값만 들어오지만, 예상하지 못한 값이 쌓이지 않도록 상한을 둔다.
+	 */
+	private static final int MAX_CACHED_ROLES = 64;
+
+	private final Map<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+
+	@Override
+	public Collection<GrantedAuthority> convert(Jwt jwt) {
+		String role = jwt.getClaimAsString(ROLE_CLAIM);
+		if (role == null || role.isBlank()) {
+			return List.of();
+		}
+		List<GrantedAuthority> cached = authoritiesByRole.get(role);
+		if (cached != null) {
+			return cached;
+		}
+		List<GrantedAuthority> authorities = toAuthorities(role);
+		if (authoritiesByRole.size() < MAX_CACHED_ROLES) {
+			authoritiesByRole.putIfAbsent(role, authorities);
+		}
+		return authorities;
+	}
+
+	private static List<GrantedAuthority> toAuthorities(String role) {
+		return Arrays.stream(role.split("[,\\s]+"))
+			.filter(value -> !value.isEmpty())
+			.map(value -> value.startsWith(ROLE_PREFIX) ? value : ROLE_PREFIX + value)
+			.<GrantedAuthority>map(SimpleGrantedAuthority::new)
+			.toList();
+	}
+}
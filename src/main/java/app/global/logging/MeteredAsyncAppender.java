@@ -0,0 +1,74 @@
+package app.global.logging;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 요청 스레드가 stdout 쓰기와 JSON 인코딩을 기다리지 않도록 하는 비동기 appender.
+ * 큐는 logback 의 고정 크기 배열 큐(queueSize)이며, 남은 용량이 discardingThreshold 아래로 떨어지면
+ * discardLevel 이하(기본 INFO 이하)의 이벤트만 버린다. WARN 이상은 버리지 않고, 큐가 가득 차면 자리가 날 때까지 기다린다.
+ * 종료 시에는 maxFlushTime 동안 남은 이벤트를 내보낸다.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+	private static final Map<String, MeteredAsyncAppender> RUNNING = new ConcurrentHashMap<>();
+
+	private final LongAdder dropped = new LongAdder();
+	private Level discardLevel = Level.INFO;
+
+	public void setDiscardLevel(String discardLevel) {
+		Level level = Level.toLevel(discardLevel, Level.INFO);
+		this.discardLevel = level.isGreaterOrEqual(Level.WARN) ? Level.INFO : level;
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * AsyncAppenderBase 는 큐의 남은 용량이 discardingThreshold 아래일 때만 이 메서드를 호출하므로, true 를 돌려준 횟수가 곧 버린 이벤트 수다.
+	 */
+	@Override
+	protected boolean isDiscardable(ILoggingEvent event) {
+		if (discardLevel.isGreaterOrEqual(event.getLevel())) {
+			dropped.increment();
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void start() {
+		if (isNeverBlock()) {
+			addWarn("neverBlock drops WARN/ERROR events when the queue is full; ignoring it.");
+			setNeverBlock(false);
+		}
+		super.start();
+		if (isStarted()) {
+			RUNNING.put(getName(), this);
+		}
+	}
+
+	@Override
+	public void stop() {
+		RUNNING.remove(getName(), this);
+		super.stop();
+	}
+
+	/**
+	 * 현재 동작 중인 인스턴스. logback 이 설정을 다시 읽으면 새 인스턴스로 바뀌므로 메트릭은 이름으로 매번 조회한다.
+	 */
+	public static MeteredAsyncAppender running(String name) {
+		return RUNNING.get(name);
+	}
+
+	public static Collection<String> runningNames() {
+		return RUNNING.keySet();
+	}
+}
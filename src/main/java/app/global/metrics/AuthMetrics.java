@@ -0,0 +1,124 @@
+package app.global.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import app.global.apiPayload.exception.GeneralException;
+import app.global.jfr.AuthEvent;
+import app.global.jfr.KmsCallEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 인증 경로의 단계별 Timer. 모든 Timer 에는 outcome 태그가 붙는다.
+ * success: 정상 반환, failure: 비즈니스 실패(GeneralException, 잘못된 입력), error: 그 밖의 예외.
+ * 히스토그램 버킷은 management.metrics.distribution.percentiles-histogram.auth 로 켠다.
+ * 같은 구간이 JFR 이벤트({@link AuthEvent})로도 남으므로 레코딩을 켜면 요청 단위로 볼 수 있다.
+ * 미터는 이름과 태그 조합마다 한 번만 등록하고 캐시해 둔다. 태그 값은 저카디널리티여야 한다.
+ */
+@Component
+public class AuthMetrics {
+
+	public static final String SUCCESS = "success";
+	public static final String FAILURE = "failure";
+	public static final String ERROR = "error";
+
+	public static final String LOGIN_STAGE = "auth.login.stage";
+	public static final String KMS_SIGN = "auth.kms.sign";
+	public static final String KMS_PUBLIC_KEY = "auth.kms.public_key";
+	public static final String REFRESH_TOKEN_OPERATION = "auth.refresh_token.operation";
+
+	private final MeterRegistry registry;
+	private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+	public AuthMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	/**
+	 * 스프링 컨텍스트 밖에서 생성되는 객체(테스트, 수동 생성자)용. 기록은 되지만 어디로도 내보내지지 않는다.
+	 */
+	public static AuthMetrics detached() {
+		return new AuthMetrics(new SimpleMeterRegistry());
+	}
+
+	public <T, E extends Exception> T record(String name, Step<T, E> body, String... tags) throws E {
+		return recordWithOutcome(name, result -> SUCCESS, body, tags);
+	}
+
+	/**
+	 * KMS 호출. JFR 이벤트에 keyId 를 남긴다 (Timer 태그에는 넣지 않는다). 리전 같은 저카디널리티 값은 tags 로 넘긴다.
+	 */
+	public <T, E extends Exception> T recordKmsCall(String name, String keyId, Step<T, E> body, String... tags)
+		throws E {
+		return timed(name, result -> SUCCESS, body, event -> {
+			if (event instanceof KmsCallEvent kmsCall) {
+				kmsCall.setKeyId(keyId);
+			}
+		}, tags);
+	}
+
+	/**
+	 * 반환값으로 outcome 을 정한다. 예) 비밀번호 불일치, 찾지 못한 토큰처럼 예외 없이 실패하는 경우.
+	 */
+	public <T, E extends Exception> T recordWithOutcome(String name, Function<T, String> outcomeOf, Step<T, E> body,
+		String... tags) throws E {
+		return timed(name, outcomeOf, body, event -> {
+		}, tags);
+	}
+
+	private <T, E extends Exception> T timed(String name, Function<T, String> outcomeOf, Step<T, E> body,
+		Consumer<AuthEvent> eventAttributes, String... tags) throws E {
+		AuthEvent event = AuthEvent.start(name);
+		long start = registry.config().clock().monotonicTime();
+		String outcome = ERROR;
+		try {
+			T result = body.get();
+			outcome = outcomeOf.apply(result);
+			return result;
+		} catch (GeneralException | IllegalArgumentException e) {
+			outcome = FAILURE;
+			throw e;
+		} finally {
+			timer(name, tags, outcome).record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+			eventAttributes.accept(event);
+			event.finish(name, tags, outcome);
+		}
+	}
+
+	public void increment(String name, String... tags) {
+		counter(name, tags).increment();
+	}
+
+	public void increment(String name, double amount, String... tags) {
+		counter(name, tags).increment(amount);
+	}
+
+	private Timer timer(String name, String[] tags, String outcome) {
+		return timers.computeIfAbsent(new MeterKey(name, Arrays.asList(tags), outcome),
+			key -> Timer.builder(name).tags(tags).tag("outcome", outcome).register(registry));
+	}
+
+	private Counter counter(String name, String[] tags) {
+		return counters.computeIfAbsent(new MeterKey(name, Arrays.asList(tags), null),
+			key -> registry.counter(name, tags));
+	}
+
+	private record MeterKey(String name, List<String> tags, String outcome) {
+	}
+
+	@FunctionalInterface
+	public interface Step<T, E extends Exception> {
+		T get() throws E;
+	}
+}
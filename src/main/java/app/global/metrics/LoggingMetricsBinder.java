@@ -0,0 +1,47 @@
+package app.global.metrics;
+
+import org.springframework.stereotype.Component;
+
+import app.global.logging.MeteredAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 비동기 로그 appender 의 큐 깊이, 남은 용량, 버린 이벤트 수를 Prometheus 로 내보낸다.
+ * logback 이 설정을 다시 읽으면 appender 인스턴스가 바뀌므로 값은 매번 이름으로 찾아 읽는다.
+ */
+@Component
+public class LoggingMetricsBinder implements MeterBinder {
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (String name : MeteredAsyncAppender.runningNames()) {
+			Gauge.builder("logging.async.queue.depth", this, binder -> queueDepth(name))
+				.tag("appender", name)
+				.register(registry);
+			Gauge.builder("logging.async.queue.remaining", this, binder -> remainingCapacity(name))
+				.tag("appender", name)
+				.register(registry);
+			FunctionCounter.builder("logging.async.dropped", this, binder -> dropped(name))
+				.tag("appender", name)
+				.register(registry);
+		}
+	}
+
+	private static double queueDepth(String name) {
+		MeteredAsyncAppender appender = MeteredAsyncAppender.running(name);
+		return appender == null ? Double.NaN : appender.getNumberOfElementsInQueue();
+	}
+
+	private static double remainingCapacity(String name) {
+		MeteredAsyncAppender appender = MeteredAsyncAppender.running(name);
+		return appender == null ? Double.NaN : appender.getRemainingCapacity();
+	}
+
+	private static double dropped(String name) {
+		MeteredAsyncAppender appender = MeteredAsyncAppender.running(name);
+		return appender == null ? 0 : appender.getDroppedCount();
+	}
+}
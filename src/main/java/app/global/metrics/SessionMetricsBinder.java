@@ -0,0 +1,36 @@
+package app.global.metrics;
+
+import org.springframework.stereotype.Component;
+
+import app.auth.service.SessionIndexSweeper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션 인덱스 스윕의 누적 통계를 Prometheus 로 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionMetricsBinder implements MeterBinder {
+
+	private final SessionIndexSweeper sessionIndexSweeper;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("auth.session_sweeper.sweeps", sessionIndexSweeper,
+				sweeper -> sweeper.totals().sweeps())
+			.register(registry);
+		FunctionCounter.builder("auth.session_sweeper.pruned_members", sessionIndexSweeper,
+				sweeper -> sweeper.totals().prunedMembers())
+			.register(registry);
+		FunctionCounter.builder("auth.session_sweeper.unlinked_keys", sessionIndexSweeper,
+				sweeper -> sweeper.totals().unlinkedKeys())
+			.register(registry);
+		FunctionCounter.builder("auth.session_sweeper.reclaimed", sessionIndexSweeper,
+				sweeper -> sweeper.totals().reclaimedBytes())
+			.baseUnit("bytes")
+			.register(registry);
+	}
+}
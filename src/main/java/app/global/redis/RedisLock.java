@@ -0,0 +1,39 @@
+package app.global.redis;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * SET NX PX 기반의 단순 분산 락. 여러 replica 중 한 곳에서만 배치 작업이 돌도록 할 때 사용한다.
+ * 해제는 소유자 값이 일치할 때만 삭제하는 스크립트로 수행하므로, 만료 후 다른 인스턴스가 잡은 락을 지우지 않는다.
+ */
+public class RedisLock {
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String key;
+	private final String owner;
+
+	public RedisLock(RedisTemplate<String, String> redisTemplate, String key) {
+		this.redisTemplate = redisTemplate;
+		this.key = key;
+		this.owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+	}
+
+	public boolean tryAcquire(Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+	}
+
+	public void release() {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+	}
+}
@@ -0,0 +1,33 @@
+package app.global.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * 다중 키 명령을 cluster slot 별로 나눈다. 파이프라인 안의 명령 하나는 노드 하나로만 가므로,
+ * 여러 slot 에 걸친 UNLINK, EXISTS 는 slot 마다 따로 보내야 CROSSSLOT 으로 실패하지 않는다.
+ * standalone, sentinel 에서도 같은 방식으로 보내며 명령 수만 늘어난다(왕복은 그대로다).
+ */
+public final class RedisSlots {
+
+	private RedisSlots() {
+	}
+
+	/**
+	 * 키를 처음 나타난 slot 순서대로 묶는다. 각 묶음 안의 키 순서는 입력 순서를 따른다.
+	 */
+	public static List<byte[][]> groupBySlot(Collection<byte[]> keys) {
+		Map<Integer, List<byte[]>> bySlot = new LinkedHashMap<>();
+		for (byte[] key : keys) {
+			bySlot.computeIfAbsent(SlotHash.getSlot(key), slot -> new ArrayList<>()).add(key);
+		}
+		List<byte[][]> groups = new ArrayList<>(bySlot.size());
+		bySlot.values().forEach(group -> groups.add(group.toArray(new byte[0][])));
+		return groups;
+	}
+}
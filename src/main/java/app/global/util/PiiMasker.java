@@ -3,16 +3,28 @@ package app.global.util;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
+import java.util.regex.Pattern;
 
+/**
+ * 로그용 PII 마스킹. prod 는 log.salt 를 키로 한 HMAC-SHA256(Base64), 그 외 프로필은 앞뒤 글자만 남긴다.
+ * 로그 인자로는 {@link #lazy(String)} 를 넘겨 이벤트가 실제로 기록될 때만 마스킹하도록 한다.
+ */
 @Component
 public class PiiMasker {
 
-    private static String activeProfile;
-    private static String logSalt;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Pattern PHONE = Pattern.compile("^\\d{2,3}-\\d{3,4}-\\d{4}$");
+    private static final ThreadLocal<KeyedMac> MACS = new ThreadLocal<>();
+
+    private static volatile String activeProfile;
+    private static volatile SecretKeySpec hmacKey;
+    private static volatile Memo memo = Memo.disabled();
 
     @Value("${spring.profiles.active:dev}")
     private String profile;
@@ -20,10 +32,23 @@ public class PiiMasker {
     @Value("${log.salt:default_salt_for_dev}")
     private String salt;
 
+    /**
+     * 최근 마스킹 결과를 기억하는 칸 수(2의 거듭제곱으로 올림). 0 이면 쓰지 않는다.
+     */
+    @Value("${log.mask.memo-size:1024}")
+    private int memoSize;
+
     @PostConstruct
     public void init() {
+        configure(profile, salt, memoSize);
+    }
+
+    static void configure(String profile, String salt, int memoSize) {
         activeProfile = profile;
-        logSalt = salt;
+        hmacKey = salt == null || salt.isEmpty() || "default_salt_for_dev".equals(salt)
+            ? null
+            : new SecretKeySpec(salt.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        memo = memoSize > 0 ? new Memo(memoSize) : Memo.disabled();
     }
 
     public static String mask(String value) {
@@ -31,37 +56,54 @@ public class PiiMasker {
             return value;
         }
 
-        if ("prod".equals(activeProfile)) {
-            return hashWithSalt(value);
-        } else {
-            return maskForDev(value);
+        Memo current = memo;
+        String cached = current.get(value);
+        if (cached != null) {
+            return cached;
         }
+        String masked = "prod".equals(activeProfile) ? hmac(value) : maskForDev(value);
+        current.put(value, masked);
+        return masked;
+    }
+
+    /**
+     * toString() 이 호출될 때 마스킹하는 로그 인자. 레벨이 꺼져 있으면 SLF4J 가 메시지를 만들지 않으므로 마스킹 비용도 없다.
+     * 비동기 appender 는 큐에 넣기 전에 메시지를 만들기 때문에 원문이 큐에 남지 않는다.
+     */
+    public static Object lazy(String value) {
+        return new Lazy(value);
     }
 
-    private static String hashWithSalt(String value) {
-        if (logSalt == null || logSalt.isEmpty() || "default_salt_for_dev".equals(logSalt)) {
+    private static String hmac(String value) {
+        SecretKeySpec key = hmacKey;
+        if (key == null) {
             return "SALT_NOT_CONFIGURED";
         }
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(logSalt.getBytes(StandardCharsets.UTF_8));
-            byte[] hashedBytes = md.digest(value.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hashedBytes);
-        } catch (NoSuchAlgorithmException e) {
+            KeyedMac keyed = MACS.get();
+            if (keyed == null || keyed.key() != key) {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                keyed = new KeyedMac(key, mac);
+                MACS.set(keyed);
+            }
+            byte[] digest = keyed.mac().doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
             return "ErrorHashingValue";
         }
     }
 
     private static String maskForDev(String value) {
-        if (value.contains("@")) {
-            int atIndex = value.indexOf("@");
+        int atIndex = value.indexOf('@');
+        if (atIndex >= 0) {
             if (atIndex <= 1) return "***";
             String prefix = value.substring(0, 1);
             String domain = value.substring(atIndex);
             return prefix + "***" + domain;
         }
-        if (value.matches("^\\d{2,3}-\\d{3,4}-\\d{4}$")) {
-            int lastHyphen = value.lastIndexOf("-");
+        if (PHONE.matcher(value).matches()) {
+            int lastHyphen = value.lastIndexOf('-');
             return value.substring(0, lastHyphen + 1) + "****";
         }
         if (value.length() <= 2) {
@@ -69,4 +111,61 @@ public class PiiMasker {
         }
         return value.substring(0, 1) + "*".repeat(value.length() - 2) + value.substring(value.length() - 1);
     }
+
+    private record KeyedMac(SecretKeySpec key, Mac mac) {
+    }
+
+    private record Lazy(String value) {
+        @Override
+        public String toString() {
+            return String.valueOf(mask(value));
+        }
+    }
+
+    /**
+     * 해시 위치 하나에 한 항목만 두는 고정 크기 캐시. 충돌하면 덮어쓰므로 잠금 없이 크기가 고정된다.
+     * 항목은 불변 record 라 다른 스레드가 덮어써도 반쯤 쓰인 값을 읽지 않는다.
+     */
+    private static final class Memo {
+
+        private final Entry[] entries;
+        private final int mask;
+
+        private Memo(int size) {
+            int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+            this.entries = new Entry[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private Memo() {
+            this.entries = null;
+            this.mask = 0;
+        }
+
+        static Memo disabled() {
+            return new Memo();
+        }
+
+        String get(String value) {
+            if (entries == null) {
+                return null;
+            }
+            Entry entry = entries[index(value)];
+            return entry != null && entry.value().equals(value) ? entry.masked() : null;
+        }
+
+        void put(String value, String masked) {
+            if (entries != null) {
+                entries[index(value)] = new Entry(value, masked);
+            }
+        }
+
+        private int index(String value) {
+            int h = value.hashCode();
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private record Entry(String value, String masked) {
+        }
+    }
 }
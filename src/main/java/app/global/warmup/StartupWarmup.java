@@ -0,0 +1,162 @@
+package app.global.warmup;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.repository.UserRepository;
+import app.auth.service.JwtKeyManager;
+import app.global.jwt.AccessTokenProvider;
+import app.global.metrics.AuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lazy-initialization 때문에 첫 로그인들이 떠안던 초기화(JPA, Hikari, Lettuce, KMS 클라이언트, BCrypt, 서명/검증, JIT)를
+ * 트래픽을 받기 전에 끝낸다. ApplicationReadyEvent 안에서 동기로 실행되므로 끝날 때까지 readiness 는 REFUSING_TRAFFIC 이고,
+ * eureka.client.healthcheck 가 그 상태를 Eureka 에 그대로 알린다.
+ * 단계는 서로 독립적이라 병렬로 돌리며, budget 을 넘기면 남은 단계를 취소하고 그대로 기동을 마친다.
+ */
+@Slf4j
+@Component
+public class StartupWarmup {
+
+	static final String STEP_METRIC = "auth.warmup.step";
+
+	/**
+	 * 실제 계정과 겹치지 않는 이름. 조회 결과가 비어 있어도 쿼리, 커넥션, 트랜잭션 경로는 그대로 탄다.
+	 */
+	private static final String SYNTHETIC_USERNAME = "__warmup__";
+
+	private final ObjectProvider<UserRepository> userRepository;
+	private final ObjectProvider<PasswordEncoder> passwordEncoder;
+	private final ObjectProvider<AccessTokenProvider> accessTokenProvider;
+	private final ObjectProvider<JwtDecoder> jwtDecoder;
+	private final ObjectProvider<JwtKeyManager> jwtKeyManager;
+	private final ObjectProvider<ObjectMapper> objectMapper;
+	private final ObjectProvider<RedisTemplate<String, String>> redisTemplate;
+	private final AuthMetrics authMetrics;
+
+	@Value("${auth.warmup.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${auth.warmup.budget:PT20S}")
+	private Duration budget = Duration.ofSeconds(20);
+
+	public StartupWarmup(ObjectProvider<UserRepository> userRepository, ObjectProvider<PasswordEncoder> passwordEncoder,
+		ObjectProvider<AccessTokenProvider> accessTokenProvider, ObjectProvider<JwtDecoder> jwtDecoder,
+		ObjectProvider<JwtKeyManager> jwtKeyManager, ObjectProvider<ObjectMapper> objectMapper,
+		ObjectProvider<RedisTemplate<String, String>> redisTemplate, AuthMetrics authMetrics) {
+		this.userRepository = userRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.accessTokenProvider = accessTokenProvider;
+		this.jwtDecoder = jwtDecoder;
+		this.jwtKeyManager = jwtKeyManager;
+		this.objectMapper = objectMapper;
+		this.redisTemplate = redisTemplate;
+		this.authMetrics = authMetrics;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (enabled) {
+			run(steps());
+		}
+	}
+
+	/**
+	 * 단계별 소요 시간(완료 순서)을 돌려준다. 실패하거나 budget 안에 끝나지 않은 단계는 빠진다.
+	 */
+	Map<String, Duration> run(Map<String, Runnable> steps) {
+		long started = System.nanoTime();
+		Map<String, Duration> durations = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(steps.size(), daemonThreads());
+		try {
+			List<CompletableFuture<Void>> futures = steps.entrySet().stream()
+				.map(step -> CompletableFuture.runAsync(() -> runStep(step.getKey(), step.getValue(), durations),
+					executor))
+				.toList();
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+				.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			log.warn("워밍업 시간 초과 - budget: {}, 미완료 단계: {}", budget,
+				steps.keySet().stream().filter(name -> !durations.containsKey(name)).toList());
+		} catch (ExecutionException e) {
+			// 단계별 실패는 runStep 에서 이미 기록했다.
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+		log.info("워밍업 완료 - elapsedMs: {}, steps: {}", Duration.ofNanos(System.nanoTime() - started).toMillis(),
+			durations.entrySet().stream().map(step -> step.getKey() + "=" + step.getValue().toMillis() + "ms").toList());
+		return durations;
+	}
+
+	private void runStep(String name, Runnable body, Map<String, Duration> durations) {
+		long started = System.nanoTime();
+		try {
+			authMetrics.record(STEP_METRIC, () -> {
+				body.run();
+				return null;
+			}, "step", name);
+			durations.put(name, Duration.ofNanos(System.nanoTime() - started));
+		} catch (RuntimeException e) {
+			log.warn("워밍업 단계 실패, 첫 요청에서 다시 초기화됩니다 - step: {}, error: {}", name, e.toString());
+		}
+	}
+
+	private Map<String, Runnable> steps() {
+		Map<String, Runnable> steps = new LinkedHashMap<>();
+		steps.put("login", () -> {
+			userRepository.getObject().findCredentialsByUsername(SYNTHETIC_USERNAME);
+			PasswordEncoder encoder = passwordEncoder.getObject();
+			encoder.matches(SYNTHETIC_USERNAME, encoder.encode(SYNTHETIC_USERNAME));
+		});
+		steps.put("sign_verify", () -> {
+			AccessTokenProvider provider = accessTokenProvider.getObject();
+			jwtDecoder.getObject().decode(provider.createAccessToken("0", "CUSTOMER"));
+			provider.createRefreshToken();
+		});
+		steps.put("jwks", () -> {
+			try {
+				objectMapper.getObject().writeValueAsBytes(jwtKeyManager.getObject().getJwks());
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		steps.put("redis", () -> redisTemplate.getObject().execute((RedisCallback<String>)RedisConnection::ping));
+		return steps;
+	}
+
+	private static ThreadFactory daemonThreads() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "warmup-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,19 @@
+-- p_user 는 이 서비스 밖에서 만들어져 왔다. 기존 DB 는 baseline(V1)으로 표시되어 이 스크립트를 건너뛰고,
+-- 빈 DB(로컬, 테스트)에서만 실행된다. 컬럼은 User/BaseEntity 매핑과 같다.
+CREATE TABLE IF NOT EXISTS p_user
+(
+    user_id      BIGSERIAL PRIMARY KEY,
+    username     VARCHAR(50)  NOT NULL UNIQUE,
+    email        VARCHAR(100) NOT NULL UNIQUE,
+    password     VARCHAR(255) NOT NULL,
+    nickname     VARCHAR(50)  NOT NULL UNIQUE,
+    real_name    VARCHAR(50)  NOT NULL,
+    phone_number VARCHAR(20)  NOT NULL UNIQUE,
+    user_role    VARCHAR(20)  NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL,
+    created_by   BIGINT,
+    updated_by   BIGINT,
+    deleted_at   TIMESTAMP,
+    deleted_by   BIGINT
+);
@@ -0,0 +1,11 @@
+-- flyway:executeInTransaction=false
+-- 탈퇴하지 않은 사용자만 담는 covering 인덱스. 로그인(findCredentialsByUsername)과 userId 조회가
+-- 테이블을 읽지 않고 index only scan 으로 끝나도록 조회 컬럼을 INCLUDE 한다.
+-- 운영 중인 테이블을 잠그지 않도록 CONCURRENTLY 로 만들며, 그래서 트랜잭션 밖에서 실행된다.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_p_user_username_active
+    ON p_user (username) INCLUDE (password, user_role, user_id)
+    WHERE deleted_at IS NULL;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_p_user_user_id_active
+    ON p_user (user_id) INCLUDE (username, user_role)
+    WHERE deleted_at IS NULL;
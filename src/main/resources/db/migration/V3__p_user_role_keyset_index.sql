@@ -0,0 +1,5 @@
+-- flyway:executeInTransaction=false
+-- 역할별 keyset 목록(user_role = ? AND user_id > ? ORDER BY user_id)과 내보내기가 정렬 없이 인덱스 순서대로 읽도록 한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_user_role_user_id_active
+    ON p_user (user_role, user_id) INCLUDE (username)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,6 @@
+-- flyway:executeInTransaction=false
+-- 탈퇴했지만 아직 익명화되지 않은 사용자만 담는다. 익명화되면 인덱스에서 빠지므로 크기가 대기 중인 건수만큼만 유지된다.
+-- 조건은 WithdrawalAnonymizationJob 의 chunk 조회와 같아야 planner 가 이 인덱스를 고른다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_p_user_pending_withdrawal
+    ON p_user (user_id)
+    WHERE deleted_at IS NOT NULL AND username NOT LIKE 'withdrawn\_user\_%';
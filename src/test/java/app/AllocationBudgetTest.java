@@ -0,0 +1,251 @@
+package app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+
+import app.auth.controller.JwksController;
+import app.auth.model.dto.request.LoginRequest;
+import app.auth.model.entity.enums.UserRole;
+import app.auth.model.repository.UserCredentials;
+import app.auth.model.repository.UserRepository;
+import app.auth.service.AuthService;
+import app.auth.service.JwtKeyManager;
+import app.auth.service.OAuth2TokenService;
+import app.global.jwt.JwtTokenProvider;
+import app.global.jwt.LocalTokenProvider;
+import app.global.metrics.AuthMetrics;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 요청 경로별 호출 한 번당 할당 바이트를 allocation-budgets.properties 의 상한과 비교한다.
+ * I/O(DB, Redis, 비밀번호 해시)는 할당이 거의 없는 대역으로 바꾸고, 토큰 생성·JSON·메트릭처럼 요청마다 반복되는 비용만 잰다.
+ * 로그는 WARN 으로 올려 둔다. 꺼진 레벨의 로그 호출 비용은 포함되고 appender 출력 비용은 빠진다.
+ */
+class AllocationBudgetTest {
+
+	private static final String RECORD_PROPERTY = "allocation.budget.record";
+	// 운영과 같은 클레임 수로 재도록 iss 를 채운다.
+	private static final String ISSUER = "https://auth.test";
+	private static final ThreadMXBean THREADS = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+	private static final Properties BUDGETS = new Properties();
+	private static final Properties MEASURED = new Properties();
+
+	private static Level previousRootLevel;
+
+	private JwtKeyManager jwtKeyManager;
+	private JwtTokenProvider jwtTokenProvider;
+	private AuthMetrics authMetrics;
+
+	@BeforeAll
+	static void loadBudgets() throws IOException {
+		assumeTrue(THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled());
+		try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+			BUDGETS.load(in);
+		}
+		Logger root = (Logger)LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		previousRootLevel = root.getLevel();
+		root.setLevel(Level.WARN);
+	}
+
+	@AfterAll
+	static void restoreAndRecord() throws IOException {
+		if (previousRootLevel != null) {
+			((Logger)LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(previousRootLevel);
+		}
+		if (Boolean.getBoolean(RECORD_PROPERTY)) {
+			// 예산 파일과 같은 키 순서로 남겨 그대로 옮겨 붙일 수 있게 한다.
+			Path output = Path.of("build", "allocation-budgets.properties");
+			Files.createDirectories(output.getParent());
+			StringBuilder lines = new StringBuilder("# measured bytes per call, ")
+				.append(System.getProperty("java.vm.name")).append(' ')
+				.append(System.getProperty("java.version")).append('\n')
+				.append("tolerance=").append(BUDGETS.getProperty("tolerance", "0.20")).append('\n');
+			MEASURED.stringPropertyNames().stream().sorted()
+				.forEach(path -> lines.append(path).append('=').append(MEASURED.getProperty(path)).append('\n'));
+			Files.writeString(output, lines);
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		jwtKeyManager = new JwtKeyManager(false, "", Optional.empty());
+		jwtKeyManager.init();
+		jwtTokenProvider = new JwtTokenProvider(jwtKeyManager);
+		ReflectionTestUtils.setField(jwtTokenProvider, "issuer", ISSUER);
+		ReflectionTestUtils.setField(jwtTokenProvider, "internalTokenValidityMs", 600_000L);
+		ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidityMs", 604_800_000L);
+		authMetrics = AuthMetrics.detached();
+	}
+
+	@Test
+	@DisplayName("로그인 한 번의 할당량이 예산 안에 있다")
+	void login_ShouldStayWithinBudget() {
+		// given
+		LocalTokenProvider accessTokenProvider = new LocalTokenProvider(jwtKeyManager);
+		ReflectionTestUtils.setField(accessTokenProvider, "issuer", ISSUER);
+		ReflectionTestUtils.setField(accessTokenProvider, "accessTokenValidityMs", 300_000L);
+		ReflectionTestUtils.setField(accessTokenProvider, "refreshTokenValidityMs", 604_800_000L);
+		AuthService authService = new AuthService(userRepository(), matchingPasswordEncoder(), jwtTokenProvider,
+			discardingRedisTemplate(), accessTokenProvider, null, authMetrics);
+		LoginRequest request = new LoginRequest("budget-user", "budget-password");
+
+		// when
+		long bytes = allocatedBytesPerCall(() -> authService.login(request), 300, 200);
+
+		// then
+		assertWithinBudget("auth.login", bytes);
+	}
+
+	@Test
+	@DisplayName("내부 토큰 발급(캐시 적중, 캐시 없음)의 할당량이 예산 안에 있다")
+	void issueInternalToken_ShouldStayWithinBudget() {
+		// given
+		OAuth2TokenService cached = new OAuth2TokenService(jwtTokenProvider, jwtKeyManager, authMetrics);
+		OAuth2TokenService uncached = new OAuth2TokenService(jwtTokenProvider, jwtKeyManager, authMetrics);
+		ReflectionTestUtils.setField(uncached, "cacheEnabled", false);
+
+		// when
+		long cachedBytes = allocatedBytesPerCall(
+			() -> cached.issueTokenForClientCredentials("budget-service", "42", "CUSTOMER"), 5000, 2000);
+		long uncachedBytes = allocatedBytesPerCall(
+			() -> uncached.issueTokenForClientCredentials("budget-service", "42", "CUSTOMER"), 300, 200);
+
+		// then
+		assertWithinBudget("oauth2.token.cached", cachedBytes);
+		assertWithinBudget("oauth2.token.uncached", uncachedBytes);
+	}
+
+	@Test
+	@DisplayName("내부 토큰 검증의 할당량이 예산 안에 있다")
+	void parseClaims_ShouldStayWithinBudget() {
+		// given
+		String token = jwtTokenProvider.createInternalToken("budget-service", "42", "CUSTOMER");
+
+		// when
+		long bytes = allocatedBytesPerCall(() -> jwtTokenProvider.parseClaims(token), 2000, 1000);
+
+		// then
+		assertWithinBudget("jwt.parse_claims", bytes);
+	}
+
+	@Test
+	@DisplayName("JWKS 응답과 직렬화의 할당량이 예산 안에 있다")
+	void jwks_ShouldStayWithinBudget() {
+		// given
+		JwksController jwksController = new JwksController(jwtKeyManager, authMetrics);
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		// when
+		long bytes = allocatedBytesPerCall(() -> {
+			try {
+				objectMapper.writeValueAsBytes(jwksController.jwks().getBody());
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}, 5000, 2000);
+
+		// then
+		assertWithinBudget("jwks.serve", bytes);
+	}
+
+	private static long allocatedBytesPerCall(Runnable call, int warmupCalls, int measuredCalls) {
+		for (int i = 0; i < warmupCalls; i++) {
+			call.run();
+		}
+		long before = THREADS.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < measuredCalls; i++) {
+			call.run();
+		}
+		return (THREADS.getCurrentThreadAllocatedBytes() - before) / measuredCalls;
+	}
+
+	private static void assertWithinBudget(String path, long measuredBytes) {
+		MEASURED.setProperty(path, Long.toString(measuredBytes));
+		if (Boolean.getBoolean(RECORD_PROPERTY)) {
+			return;
+		}
+		long budget = Long.parseLong(BUDGETS.getProperty(path));
+		double tolerance = Double.parseDouble(BUDGETS.getProperty("tolerance", "0.20"));
+		assertThat(measuredBytes)
+			.as("%s allocates %d bytes/call, budget %d bytes (+%.0f%%)", path, measuredBytes, budget, tolerance * 100)
+			.isLessThanOrEqualTo((long)(budget * (1 + tolerance)));
+	}
+
+	private static UserRepository userRepository() {
+		UserCredentials credentials = new UserCredentials() {
+			@Override
+			public Long getUserId() {
+				return 42L;
+			}
+
+			@Override
+			public String getPassword() {
+				return "encoded";
+			}
+
+			@Override
+			public UserRole getUserRole() {
+				return UserRole.CUSTOMER;
+			}
+		};
+		Optional<UserCredentials> found = Optional.of(credentials);
+		return (UserRepository)Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+			new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+				if (!method.getName().equals("findCredentialsByUsername")) {
+					throw new UnsupportedOperationException(method.getName());
+				}
+				return found;
+			});
+	}
+
+	private static PasswordEncoder matchingPasswordEncoder() {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return true;
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisTemplate<String, String> discardingRedisTemplate() {
+		ValueOperations<String, String> valueOperations = (ValueOperations<String, String>)Proxy.newProxyInstance(
+			ValueOperations.class.getClassLoader(), new Class<?>[] {ValueOperations.class},
+			(proxy, method, args) -> null);
+		return new RedisTemplate<>() {
+			@Override
+			public ValueOperations<String, String> opsForValue() {
+				return valueOperations;
+			}
+		};
+	}
+}
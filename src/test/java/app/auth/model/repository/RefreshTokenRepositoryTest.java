@@ -0,0 +1,136 @@
+package app.auth.model.repository;
+
+import app.auth.model.entity.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRepositoryTest {
+
+	@InjectMocks
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Test
+	@DisplayName("압축 형식으로 직렬화한 토큰은 같은 userId, 발급 시각, familyId 로 복원되어야 한다")
+	void packAndUnpack_ShouldRoundTrip() {
+		// given
+		RefreshToken token = new RefreshToken("token-1", "42", RefreshToken.newFamilyId(),
+			Instant.ofEpochSecond(1_700_000_000L), 3600L);
+
+		// when
+		String packed = token.pack();
+		Optional<RefreshToken> restored = RefreshToken.unpack("token-1", packed, null);
+
+		// then
+		assertThat(packed).startsWith("1|42|");
+		assertThat(packed.length()).isLessThan(40);
+		assertThat(restored).isPresent();
+		assertThat(restored.get().getUserId()).isEqualTo("42");
+		assertThat(restored.get().getIssuedAt()).isEqualTo(token.getIssuedAt());
+		assertThat(restored.get().getFamilyId()).isEqualTo(token.getFamilyId());
+	}
+
+	@Test
+	@DisplayName("토큰 저장 시 보조 인덱스 없이 문자열 키 하나를 TTL 과 함께 기록해야 한다")
+	void save_ShouldWriteSingleStringWithTtl() {
+		// given
+		RefreshToken token = new RefreshToken("token-1", "42", 604800L);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		// when
+		refreshTokenRepository.save(token);
+
+		// then
+		verify(valueOperations).set(eq("rt:token-1"), startsWith("1|42|"), eq(604800L), eq(TimeUnit.SECONDS));
+		verify(redisTemplate, never()).opsForSet();
+	}
+
+	@Test
+	@DisplayName("새 형식 키가 없고 레거시 해시가 있으면 남은 TTL 로 새 형식에 옮기고, 발급 시각과 family 를 보존해야 한다")
+	void findById_WithLegacyHash_ShouldMigrate() {
+		// given
+		ReflectionTestUtils.setField(refreshTokenRepository, "legacyFallback", true);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("rt:legacy-token")).thenReturn(null);
+		when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.get("p_refresh_token:legacy-token", "userId")).thenReturn("7");
+		when(redisTemplate.getExpire("p_refresh_token:legacy-token", TimeUnit.SECONDS)).thenReturn(120L);
+
+		// when
+		Optional<RefreshToken> found = refreshTokenRepository.findById("legacy-token");
+
+		// then
+		assertThat(found).isPresent();
+		assertThat(found.get().getUserId()).isEqualTo("7");
+		assertThat(found.get().getIssuedAt()).isBefore(Instant.now().minusSeconds(604800L - 120L - 5));
+		assertThat(found.get().getFamilyId()).isEqualTo(RefreshTokenRepository.legacyFamilyId("legacy-token"));
+		verify(valueOperations).set(eq("rt:legacy-token"), startsWith("1|7|"), eq(120L), eq(TimeUnit.SECONDS));
+		verify(redisTemplate).executePipelined(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("회전용 조회는 GETDEL 한 번으로 레코드를 읽고 삭제해야 한다")
+	void findAndDelete_ShouldUseGetDel() {
+		// given
+		RefreshToken token = new RefreshToken("42.abc", "42", 3600L);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.getAndDelete("rt:{42}.abc")).thenReturn(token.pack());
+
+		// when
+		Optional<RefreshToken> found = refreshTokenRepository.findAndDelete("42.abc");
+
+		// then
+		assertThat(found).isPresent();
+		assertThat(found.get().getUserId()).isEqualTo("42");
+		verify(valueOperations, never()).get(any());
+	}
+
+	@Test
+	@DisplayName("클러스터 모드에서는 메모리 리포트가 키스페이스 SCAN 을 하지 않아야 한다")
+	void memoryReport_InClusterMode_ShouldSkipKeyspaceScan() {
+		// given
+		ReflectionTestUtils.setField(refreshTokenRepository, "redisMode", "cluster");
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+		// when
+		refreshTokenRepository.memoryReport(10);
+
+		// then
+		verify(redisTemplate, never()).scan(any(ScanOptions.class));
+	}
+}
@@ -0,0 +1,174 @@
+package app.auth.model.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.entity.enums.UserRole;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/migration 을 실제 Postgres 에 적용한 뒤, 리포지토리 메서드가 실제로 만드는 SQL 을 StatementInspector 로 잡아
+ * 호출에 쓴 값을 바인딩해 실행 계획을 확인한다. 엔티티나 쿼리 메서드가 바뀌면 계획도 그 SQL 기준으로 다시 검증된다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class UserIndexPlanTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+	private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@BeforeAll
+	static void migrateAndSeed() throws SQLException {
+		Flyway.configure()
+			.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+			.load()
+			.migrate();
+
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			statement.execute("""
+				INSERT INTO p_user (username, email, password, nickname, real_name, phone_number, user_role,
+				                    created_at, updated_at, deleted_at)
+				SELECT 'user' || i, 'user' || i || '@example.com', '$2a$10$hash' || i, 'nick' || i, 'name',
+				       '010-' || lpad(i::text, 8, '0'), CASE WHEN i % 10 = 0 THEN 'OWNER' ELSE 'CUSTOMER' END,
+				       now(), now(), CASE WHEN i % 50 = 0 THEN now() END
+				FROM generate_series(1, 20000) AS i
+				""");
+			statement.execute("VACUUM ANALYZE p_user");
+		}
+	}
+
+	@BeforeEach
+	void clearStatements() {
+		statements.clear();
+	}
+
+	@Test
+	@DisplayName("로그인 조회는 탈퇴하지 않은 사용자용 username 인덱스만으로 응답한다")
+	void loginQuery_ShouldUseIndexOnlyScan() throws SQLException {
+		// given
+		userRepository.findCredentialsByUsername("user1234");
+
+		// when
+		JsonNode plan = explain(lastStatement(), "user1234");
+
+		// then
+		assertThat(plan.path("Node Type").asText()).isEqualTo("Index Only Scan");
+		assertThat(plan.path("Index Name").asText()).isEqualTo("ux_p_user_username_active");
+	}
+
+	@Test
+	@DisplayName("userId 로 역할을 읽는 조회는 탈퇴하지 않은 사용자용 user_id 인덱스만으로 응답한다")
+	void userIdQuery_ShouldUseIndexOnlyScan() throws SQLException {
+		// given
+		userRepository.findByUserIdIn(List.of(1234L));
+
+		// when
+		JsonNode plan = explain(lastStatement(), 1234L);
+
+		// then
+		assertThat(plan.path("Node Type").asText()).isEqualTo("Index Only Scan");
+		assertThat(plan.path("Index Name").asText()).isEqualTo("ux_p_user_user_id_active");
+	}
+
+	@Test
+	@DisplayName("역할별 keyset 목록은 정렬 없이 역할 인덱스 순서대로 읽는다")
+	void keysetQuery_ShouldReadRoleIndexInOrder() throws SQLException {
+		// given
+		userRepository.findByUserRoleAndUserIdGreaterThanOrderByUserIdAsc(UserRole.CUSTOMER, 15000L,
+			PageRequest.ofSize(101));
+
+		// when
+		JsonNode plan = explain(lastStatement(), UserRole.CUSTOMER.name(), 15000L, 101);
+
+		// then
+		JsonNode scan = plan.path("Plans").get(0);
+		assertThat(plan.path("Node Type").asText()).isEqualTo("Limit");
+		assertThat(scan.path("Node Type").asText()).isEqualTo("Index Only Scan");
+		assertThat(scan.path("Index Name").asText()).isEqualTo("ix_p_user_role_user_id_active");
+	}
+
+	private static String lastStatement() {
+		assertThat(statements).isNotEmpty();
+		return statements.get(statements.size() - 1);
+	}
+
+	/**
+	 * Hibernate 가 만든 SQL 을 같은 순서의 파라미터로 바인딩해 EXPLAIN 한다. 값이 바인딩되므로 custom plan 이 나온다.
+	 */
+	private static JsonNode explain(String sql, Object... parameters) throws SQLException {
+		try (Connection connection = connect();
+			 PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setObject(i + 1, parameters[i]);
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+			}
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Connection connect() throws SQLException {
+		return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+	}
+
+	@TestConfiguration
+	static class StatementCaptureConfig {
+
+		@Bean
+		HibernatePropertiesCustomizer statementCapture() {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+				statements.add(sql);
+				return sql;
+			});
+		}
+	}
+}
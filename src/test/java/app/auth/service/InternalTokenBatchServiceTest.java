@@ -0,0 +1,164 @@
+package app.auth.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.request.InternalTokenBatchRequest;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InternalTokenBatchServiceTest {
+
+	private static final String CLIENT_ID = "order-service";
+
+	@Mock
+	private OAuth2TokenService oAuth2TokenService;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private InternalTokenBatchService internalTokenBatchService;
+
+	@BeforeEach
+	void setUp() {
+		internalTokenBatchService = new InternalTokenBatchService(oAuth2TokenService, objectMapper, 4, 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		internalTokenBatchService.shutdown();
+	}
+
+	@Test
+	@DisplayName("일괄 발급 결과는 항목마다 index 가 붙은 JSON 한 줄로 내려가고, 실패한 항목은 error 줄이 된다")
+	void writeBatch_ShouldStreamOneLinePerItem() throws Exception {
+		// given
+		when(oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "1", "CUSTOMER"))
+			.thenReturn(Map.of("access_token", "token-1", "token_type", "Bearer", "expires_in", 600L));
+		when(oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "OWNER"))
+			.thenReturn(Map.of("access_token", "token-2", "token_type", "Bearer", "expires_in", 600L));
+		when(oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "3", null))
+			.thenThrow(new IllegalArgumentException("Missing required parameter: userRole"));
+
+		List<InternalTokenBatchRequest.Item> items = List.of(
+			new InternalTokenBatchRequest.Item("1", "CUSTOMER"),
+			new InternalTokenBatchRequest.Item("2", "OWNER"),
+			new InternalTokenBatchRequest.Item("3", null));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		internalTokenBatchService.writeBatch(CLIENT_ID, items, out);
+
+		// then
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(3);
+
+		Map<Integer, JsonNode> byIndex = new HashMap<>();
+		for (String line : lines) {
+			JsonNode node = objectMapper.readTree(line);
+			byIndex.put(node.get("index").asInt(), node);
+		}
+		assertThat(byIndex.get(0).get("access_token").asText()).isEqualTo("token-1");
+		assertThat(byIndex.get(1).get("access_token").asText()).isEqualTo("token-2");
+		assertThat(byIndex.get(2).get("error").asText()).isEqualTo("invalid_request");
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘는 요청은 스트리밍 전에 거절된다")
+	void validateBatchSize_TooLarge_ShouldThrow() {
+		// given
+		ReflectionTestUtils.setField(internalTokenBatchService, "maxBatchSize", 2);
+		List<InternalTokenBatchRequest.Item> items =
+			Collections.nCopies(3, new InternalTokenBatchRequest.Item("1", "CUSTOMER"));
+
+		// when & then
+		assertThatThrownBy(() -> internalTokenBatchService.validateBatchSize(items))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(UserErrorStatus.TOKEN_BATCH_TOO_LARGE);
+	}
+
+	@Test
+	@DisplayName("응답 쓰기가 실패하면 아직 시작하지 않은 발급은 취소되어 실행되지 않는다")
+	void writeBatch_WhenClientDisconnects_ShouldCancelPendingItems() throws Exception {
+		// given
+		InternalTokenBatchService singleThreaded = new InternalTokenBatchService(oAuth2TokenService, objectMapper, 1, 100);
+		CountDownLatch gate = new CountDownLatch(1);
+		when(oAuth2TokenService.issueTokenForClientCredentials(eq(CLIENT_ID), anyString(), anyString()))
+			.thenAnswer(invocation -> {
+				if (!"1".equals(invocation.getArgument(1))) {
+					gate.await(5, TimeUnit.SECONDS);
+				}
+				return Map.of("access_token", "token-" + invocation.getArgument(1));
+			});
+		List<InternalTokenBatchRequest.Item> items = List.of(
+			new InternalTokenBatchRequest.Item("1", "CUSTOMER"),
+			new InternalTokenBatchRequest.Item("2", "CUSTOMER"),
+			new InternalTokenBatchRequest.Item("3", "CUSTOMER"),
+			new InternalTokenBatchRequest.Item("4", "CUSTOMER"));
+		OutputStream disconnected = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> singleThreaded.writeBatch(CLIENT_ID, items, disconnected)).isInstanceOf(IOException.class);
+			verify(oAuth2TokenService, atMost(2)).issueTokenForClientCredentials(anyString(), anyString(), anyString());
+			verify(oAuth2TokenService, never()).issueTokenForClientCredentials(anyString(), eq("3"), anyString());
+			verify(oAuth2TokenService, never()).issueTokenForClientCredentials(anyString(), eq("4"), anyString());
+		} finally {
+			singleThreaded.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("서명 큐에 남은 자리가 요청 크기보다 작으면 스트리밍 전에 거절된다")
+	void validateBatchSize_QueueFull_ShouldThrow() {
+		// given
+		InternalTokenBatchService small = new InternalTokenBatchService(oAuth2TokenService, objectMapper, 1, 2);
+		List<InternalTokenBatchRequest.Item> items =
+			Collections.nCopies(3, new InternalTokenBatchRequest.Item("1", "CUSTOMER"));
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> small.validateBatchSize(items))
+				.isInstanceOf(GeneralException.class)
+				.extracting("code")
+				.isEqualTo(UserErrorStatus.TOKEN_BATCH_BUSY);
+		} finally {
+			small.shutdown();
+		}
+	}
+}
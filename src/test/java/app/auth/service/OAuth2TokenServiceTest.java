@@ -1,29 +1,52 @@
 package app.auth.service;
 
 import app.global.jwt.JwtTokenProvider;
+import app.global.metrics.AuthMetrics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class OAuth2TokenServiceTest {
 
+	private static final String CLIENT_ID = "order-service";
+
 	@InjectMocks
 	private OAuth2TokenService oAuth2TokenService;
 
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
 
+	@Mock
+	private JwtKeyManager jwtKeyManager;
+
+	@Spy
+	private AuthMetrics authMetrics = AuthMetrics.detached();
+
 
 	@Test
 	@DisplayName("유효한 userId/userRole로 토큰 발급 요청 시 토큰 정보를 반환해야 한다")
@@ -34,11 +57,13 @@ class OAuth2TokenServiceTest {
 		String mockToken = "mock.jwt.token";
 		long expiresInMs = 60_000L;
 
-		when(jwtTokenProvider.createInternalToken(userId, userRole)).thenReturn(mockToken);
+		when(jwtTokenProvider.createInternalToken(eq(CLIENT_ID), eq(userId), eq(userRole), any(Instant.class)))
+			.thenReturn(mockToken);
 		when(jwtTokenProvider.getInternalTokenValidityMs()).thenReturn(expiresInMs);
 
 		// when
-		Map<String, Object> tokenResponse = oAuth2TokenService.issueTokenForClientCredentials(userId, userRole);
+		Map<String, Object> tokenResponse = oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, userId,
+			userRole);
 
 		// then
 		assertThat(tokenResponse).isNotNull();
@@ -51,7 +76,7 @@ class OAuth2TokenServiceTest {
 	@Test
 	@DisplayName("userId가 없으면 IllegalArgumentException이 발생해야 한다")
 	void issueToken_MissingUserId_ShouldThrowIAE() {
-		assertThatThrownBy(() -> oAuth2TokenService.issueTokenForClientCredentials(null, "ADMIN"))
+		assertThatThrownBy(() -> oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, null, "ADMIN"))
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage("Missing required parameter: userId");
 	}
@@ -59,9 +84,99 @@ class OAuth2TokenServiceTest {
 	@Test
 	@DisplayName("userRole이 없으면 IllegalArgumentException이 발생해야 한다")
 	void issueToken_MissingUserRole_ShouldThrowIAE() {
-		assertThatThrownBy(() -> oAuth2TokenService.issueTokenForClientCredentials("user123", null))
+		assertThatThrownBy(() -> oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "user123", null))
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage("Missing required parameter: userRole");
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("같은 userId/userRole 로 다시 요청하면 서명 없이 이전 토큰을 돌려준다")
+	void issueToken_SamePair_ShouldReuseIssuedToken() {
+		// given
+		when(jwtKeyManager.getActiveKid()).thenReturn("kid-1");
+		when(jwtTokenProvider.getInternalTokenValidityMs()).thenReturn(600_000L);
+		when(jwtTokenProvider.createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class)))
+			.thenReturn("token-1");
+
+		// when
+		Map<String, Object> first = oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "ADMIN");
+		Map<String, Object> second = oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "ADMIN");
+
+		// then
+		assertThat(second.get("access_token")).isEqualTo(first.get("access_token"));
+		assertThat((Long)second.get("expires_in")).isLessThanOrEqualTo(600L);
+		verify(jwtTokenProvider, times(1)).createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("서명 키가 바뀌면 캐시된 토큰을 버리고 새로 서명한다")
+	void issueToken_AfterKeyRotation_ShouldSignAgain() {
+		// given
+		when(jwtKeyManager.getActiveKid()).thenReturn("kid-1", "kid-2");
+		when(jwtTokenProvider.getInternalTokenValidityMs()).thenReturn(600_000L);
+		when(jwtTokenProvider.createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class)))
+			.thenReturn("token-1", "token-2");
+
+		// when
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "ADMIN");
+		Map<String, Object> afterRotation = oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "ADMIN");
+
+		// then
+		assertThat(afterRotation.get("access_token")).isEqualTo("token-2");
+		verify(jwtTokenProvider, times(2)).createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 캐시 미스는 한 번의 서명으로 합쳐진다")
+	void issueToken_ConcurrentMisses_ShouldSignOnce() throws Exception {
+		// given
+		CountDownLatch signing = new CountDownLatch(1);
+		when(jwtKeyManager.getActiveKid()).thenReturn("kid-1");
+		when(jwtTokenProvider.getInternalTokenValidityMs()).thenReturn(600_000L);
+		when(jwtTokenProvider.createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class)))
+			.thenAnswer(invocation -> {
+				signing.await(5, TimeUnit.SECONDS);
+				return "token-1";
+			});
+
+		// when
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Map<String, Object>>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(executor.submit(() -> oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2",
+				"ADMIN")));
+		}
+		Thread.sleep(200);
+		signing.countDown();
+
+		// then
+		for (Future<Map<String, Object>> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS).get("access_token")).isEqualTo("token-1");
+		}
+		executor.shutdown();
+		verify(jwtTokenProvider, times(1)).createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("캐시가 가득 차면 가장 오래 쓰이지 않은 항목만 내보낸다")
+	void issueToken_WhenFull_ShouldEvictLeastRecentlyUsed() {
+		// given
+		ReflectionTestUtils.setField(oAuth2TokenService, "cacheMaxEntries", 2);
+		when(jwtKeyManager.getActiveKid()).thenReturn("kid-1");
+		when(jwtTokenProvider.getInternalTokenValidityMs()).thenReturn(600_000L);
+		when(jwtTokenProvider.createInternalToken(eq(CLIENT_ID), any(), eq("ADMIN"), any(Instant.class)))
+			.thenAnswer(invocation -> "token-" + invocation.getArgument(1));
+
+		// when
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "1", "ADMIN");
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "ADMIN");
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "1", "ADMIN");
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "3", "ADMIN");
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "1", "ADMIN");
+		oAuth2TokenService.issueTokenForClientCredentials(CLIENT_ID, "2", "ADMIN");
+
+		// then
+		verify(jwtTokenProvider, times(1)).createInternalToken(eq(CLIENT_ID), eq("1"), eq("ADMIN"), any(Instant.class));
+		verify(jwtTokenProvider, times(2)).createInternalToken(eq(CLIENT_ID), eq("2"), eq("ADMIN"), any(Instant.class));
+	}
+}
@@ -1,23 +1,40 @@
 package app.auth.service;
 
+import app.auth.model.dto.response.SessionRevokeResponse;
 import app.auth.model.entity.RefreshToken;
 import app.auth.model.repository.RefreshTokenRepository;
+import app.auth.model.repository.SessionKeys;
+import app.global.apiPayload.exception.GeneralException;
 import app.global.jwt.JwtTokenProvider;
+import app.global.metrics.AuthMetrics;
+import io.lettuce.core.cluster.SlotHash;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -34,6 +51,9 @@ class RefreshTokenServiceTest {
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
 
+	@Spy
+	private AuthMetrics authMetrics = AuthMetrics.detached();
+
 	@Mock
 	private RedisTemplate<String, String> redisTemplate;
 
@@ -55,9 +75,10 @@ class RefreshTokenServiceTest {
 		String createdToken = refreshTokenService.createRefreshToken(userId);
 
 		// then
-		assertThat(createdToken).isNotNull();
+		assertThat(createdToken).isNotNull().doesNotStartWith(userId + ".");
+		assertThat(SessionKeys.tokenRecord(createdToken)).startsWith("rt:" + SessionKeys.hashTag(userId) + ".");
 		verify(refreshTokenRepository).save(any(RefreshToken.class));
-		String expectedUserTokensKey = "user_tokens:" + userId;
+		String expectedUserTokensKey = SessionKeys.userTokens(userId);
 		verify(setOperations).add(eq(expectedUserTokensKey), eq(createdToken));
 		verify(redisTemplate).expire(eq(expectedUserTokensKey), eq(ttlInSeconds), eq(TimeUnit.SECONDS));
 	}
@@ -70,7 +91,7 @@ class RefreshTokenServiceTest {
 		String token = "valid-token";
 		RefreshToken foundToken = new RefreshToken(token, userId, 3600L);
 
-		when(refreshTokenRepository.findById(token)).thenReturn(Optional.of(foundToken));
+		when(refreshTokenRepository.findAndDelete(token)).thenReturn(Optional.of(foundToken));
 		when(redisTemplate.opsForSet()).thenReturn(setOperations);
 
 		// when
@@ -78,8 +99,8 @@ class RefreshTokenServiceTest {
 
 		// then
 		assertThat(resultUserId).isPresent().contains(userId);
-		verify(refreshTokenRepository).delete(foundToken);
-		String expectedUserTokensKey = "user_tokens:" + userId;
+		verify(refreshTokenRepository).findAndDelete(token);
+		String expectedUserTokensKey = SessionKeys.userTokens(userId);
 		verify(setOperations).remove(eq(expectedUserTokensKey), eq(token));
 	}
 
@@ -88,7 +109,7 @@ class RefreshTokenServiceTest {
 	void validateAndRotate_WithInvalidToken_ShouldReturnEmpty() {
 		// given
 		String token = "invalid-token";
-		when(refreshTokenRepository.findById(token)).thenReturn(Optional.empty());
+		when(refreshTokenRepository.findAndDelete(token)).thenReturn(Optional.empty());
 
 		// when
 		Optional<String> resultUserId = refreshTokenService.validateAndRotate(token);
@@ -100,22 +121,95 @@ class RefreshTokenServiceTest {
 	}
 
 	@Test
-	@DisplayName("사용자 ID로 토큰 폐기 시, 해당 사용자의 모든 토큰과 인덱스를 삭제해야 한다")
+	@DisplayName("사용자 ID로 토큰 폐기 시, 토큰 조회와 삭제가 각각 하나의 파이프라인으로 처리되어야 한다")
 	void revokeRefreshTokensByUserId_ShouldDeleteAllUserTokensAndIndex() {
 		// given
 		String userId = "user-to-logout";
-		String userTokensKey = "user_tokens:" + userId;
 		Set<String> tokenIds = Set.of("token1", "token2", "token3");
 
-		when(redisTemplate.opsForSet()).thenReturn(setOperations);
-		when(setOperations.members(userTokensKey)).thenReturn(tokenIds);
+		when(redisTemplate.executePipelined(any(RedisCallback.class)))
+			.thenReturn(List.<Object>of(tokenIds))
+			.thenReturn(List.<Object>of(11L, 3L));
 
 		// when
 		refreshTokenService.revokeRefreshTokensByUserId(userId);
 
 		// then
-		verify(setOperations).members(userTokensKey);
-		verify(refreshTokenRepository).deleteAllById(tokenIds);
-		verify(redisTemplate).delete(userTokensKey);
+		verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("legacy-fallback 이 켜져 있으면 해시 태그가 없는 이전 인덱스와 RT 키도 읽고 지워야 한다")
+	@SuppressWarnings("unchecked")
+	void revokeRefreshTokensByUserId_WithLegacyFallback_ShouldRevokeUntaggedKeys() {
+		// given
+		when(refreshTokenRepository.isLegacyFallbackEnabled()).thenReturn(true);
+		when(refreshTokenRepository.legacyIndexKey()).thenReturn("p_refresh_token");
+		when(refreshTokenRepository.recordKeys(anyString()))
+			.thenAnswer(invocation -> List.of("rt:" + invocation.getArgument(0)));
+		when(redisTemplate.executePipelined(any(RedisCallback.class)))
+			.thenReturn(List.<Object>of(Set.of("42.new"), Set.of("old-token")))
+			.thenReturn(List.<Object>of(5L, 1L));
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+		RedisSetCommands setCommands = mock(RedisSetCommands.class);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		when(connection.setCommands()).thenReturn(setCommands);
+
+		// when
+		refreshTokenService.revokeRefreshTokensByUserId("42");
+
+		// then
+		ArgumentCaptor<RedisCallback<Object>> callbacks = ArgumentCaptor.forClass(RedisCallback.class);
+		verify(redisTemplate, times(2)).executePipelined(callbacks.capture());
+		callbacks.getAllValues().forEach(callback -> callback.doInRedis(connection));
+
+		verify(setCommands).sMembers(SessionKeys.userTokens("42").getBytes(StandardCharsets.UTF_8));
+		verify(setCommands).sMembers(SessionKeys.legacyUserTokens("42").getBytes(StandardCharsets.UTF_8));
+		ArgumentCaptor<byte[][]> unlinked = ArgumentCaptor.forClass(byte[][].class);
+		verify(keyCommands, atLeast(2)).unlink(unlinked.capture());
+		unlinked.getAllValues().forEach(slotKeys -> assertThat(Arrays.stream(slotKeys)
+			.map(SlotHash::getSlot).distinct()).hasSize(1));
+		assertThat(unlinked.getAllValues().stream().flatMap(Arrays::stream)
+			.map(key -> new String(key, StandardCharsets.UTF_8)))
+			.contains(SessionKeys.userTokens("42"), SessionKeys.legacyUserTokens("42"), SessionKeys.refreshToken("42"),
+				SessionKeys.legacyRefreshToken("42"), "rt:42.new", "rt:old-token");
+	}
+
+	@Test
+	@DisplayName("세션 일괄 폐기 시, chunk 크기만큼 나누어 chunk 당 두 번의 파이프라인으로 처리해야 한다")
+	void revokeSessionsInBulk_ShouldProcessInChunks() {
+		// given
+		ReflectionTestUtils.setField(refreshTokenService, "revokeChunkSize", 2);
+		ReflectionTestUtils.setField(refreshTokenService, "revokeMaxUserIds", 10);
+
+		when(redisTemplate.executePipelined(any(RedisCallback.class)))
+			.thenReturn(List.<Object>of(Set.of("t1"), Set.of()))
+			.thenReturn(List.<Object>of(5L, 1L))
+			.thenReturn(List.<Object>of(Set.of("t2")))
+			.thenReturn(List.<Object>of(4L, 1L));
+
+		// when
+		SessionRevokeResponse response = refreshTokenService.revokeSessionsInBulk(List.of("u1", "u2", "u3", "u1"));
+
+		// then
+		assertThat(response.getRequestedUsers()).isEqualTo(3);
+		assertThat(response.getChunks()).isEqualTo(2);
+		assertThat(response.getUnlinkedKeys()).isEqualTo(9L);
+		verify(redisTemplate, times(4)).executePipelined(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("세션 일괄 폐기 요청이 최대 사용자 수를 넘으면 GeneralException이 발생해야 한다")
+	void revokeSessionsInBulk_TooManyUsers_ShouldThrow() {
+		// given
+		ReflectionTestUtils.setField(refreshTokenService, "revokeChunkSize", 2);
+		ReflectionTestUtils.setField(refreshTokenService, "revokeMaxUserIds", 2);
+
+		// when & then
+		assertThatThrownBy(() -> refreshTokenService.revokeSessionsInBulk(List.of("u1", "u2", "u3")))
+			.isInstanceOf(GeneralException.class);
+		verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,307 @@
+package app.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.auth.model.repository.RefreshTokenRepository;
+import app.auth.model.repository.SessionKeys;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.ValueScanCursor;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionIndexSweeperTest {
+
+	// 가짜 SSCAN 이 한 번에 돌려주는 멤버 수
+	private static final int SSCAN_PAGE = 2;
+	private static final long BYTES_PER_MEMBER = 64;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private RedisClusterConnection connection;
+
+	@Mock
+	private RedisKeyCommands keyCommands;
+
+	@Mock
+	private RedisSetCommands setCommands;
+
+	@Mock
+	private RedisAdvancedClusterAsyncCommands<byte[], byte[]> async;
+
+	private final Map<String, String> values = new HashMap<>();
+	private final Map<String, NavigableSet<String>> sets = new TreeMap<>();
+	private final Set<String> records = new HashSet<>();
+	private final List<Object> replies = new ArrayList<>();
+	private final List<Integer> sscanSizes = new ArrayList<>();
+
+	private SessionIndexSweeper sweeper;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation ->
+			invocation.<Collection<String>>getArgument(0).stream().map(values::get).toList());
+		doAnswer(invocation -> {
+			values.putAll(invocation.getArgument(0));
+			return null;
+		}).when(valueOperations).multiSet(anyMap());
+
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+			invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+			replies.clear();
+			invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+			return new ArrayList<>(replies);
+		});
+		when(connection.getNativeConnection()).thenReturn(async);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		when(connection.setCommands()).thenReturn(setCommands);
+
+		// 클러스터 모드에서는 노드별 연결로 SCAN 하므로 쓰이지 않는다.
+		lenient().when(async.scan(any(ScanCursor.class), any(ScanArgs.class))).thenAnswer(invocation -> {
+			KeyScanCursor<byte[]> page = new KeyScanCursor<>();
+			sets.keySet().forEach(key -> page.getKeys().add(raw(key)));
+			page.setCursor("0");
+			page.setFinished(true);
+			return completed(page);
+		});
+		when(async.sscan(any(byte[].class), any(ScanCursor.class), any(ScanArgs.class))).thenAnswer(invocation -> {
+			NavigableSet<String> members = sets.getOrDefault(str(invocation.getArgument(0)), new TreeSet<>());
+			String cursor = invocation.<ScanCursor>getArgument(1).getCursor();
+			// 실제 SSCAN 처럼 중간에 멤버가 지워져도 건너뛰지 않도록 마지막으로 돌려준 멤버를 커서로 쓴다.
+			List<String> rest = new ArrayList<>(cursor.startsWith("m:")
+				? members.tailSet(cursor.substring(2), false) : members);
+			List<String> returned = rest.subList(0, Math.min(SSCAN_PAGE, rest.size()));
+			ValueScanCursor<byte[]> page = new ValueScanCursor<>();
+			returned.forEach(member -> page.getValues().add(raw(member)));
+			page.setFinished(returned.size() == rest.size());
+			page.setCursor(page.isFinished() ? "0" : "m:" + returned.get(returned.size() - 1));
+			sscanSizes.add(returned.size());
+			return completed(page);
+		});
+
+		doAnswer(invocation -> {
+			long count = 0;
+			for (byte[] key : (byte[][]) invocation.getRawArguments()[0]) {
+				count += records.contains(str(key)) ? 1 : 0;
+			}
+			replies.add(count);
+			return null;
+		}).when(keyCommands).exists(any(byte[][].class));
+		doAnswer(invocation -> {
+			NavigableSet<String> members = sets.get(str((byte[]) invocation.getRawArguments()[0]));
+			long removed = 0;
+			for (byte[] member : (byte[][]) invocation.getRawArguments()[1]) {
+				removed += members.remove(str(member)) ? 1 : 0;
+			}
+			replies.add(removed);
+			return null;
+		}).when(setCommands).sRem(any(byte[].class), any(byte[][].class));
+		doAnswer(invocation -> {
+			byte[] key = ((byte[][]) invocation.getRawArguments()[1])[1];
+			replies.add(BYTES_PER_MEMBER * sets.get(str(key)).size());
+			return null;
+		}).when(connection).execute(eq("MEMORY"), any(byte[][].class));
+
+		when(refreshTokenRepository.recordKeys(anyString())).thenAnswer(invocation ->
+			List.of(SessionKeys.tokenRecord(invocation.getArgument(0))));
+
+		sweeper = new SessionIndexSweeper(redisTemplate, refreshTokenRepository);
+		ReflectionTestUtils.setField(sweeper, "enabled", true);
+		ReflectionTestUtils.setField(sweeper, "interval", Duration.ofSeconds(30));
+		ReflectionTestUtils.setField(sweeper, "redisMode", "standalone");
+	}
+
+	@Test
+	@DisplayName("레코드가 없는 멤버만 세트에서 지우고, 페이지를 모두 처리하면 커서를 처음으로 되돌린다")
+	void tick_ShouldPruneDanglingMembers() {
+		// given
+		configure(200, 2000);
+		index("1", "1.a", "1.b");
+		index("2", "2.c");
+		records.add(SessionKeys.tokenRecord("1.a"));
+
+		// when
+		sweeper.tick();
+
+		// then
+		assertThat(sets.get(SessionKeys.userTokens("1"))).containsExactly("1.a");
+		assertThat(sets.get(SessionKeys.userTokens("2"))).isEmpty();
+		assertThat(sweeper.totals().prunedMembers()).isEqualTo(2);
+		assertThat(sweeper.totals().reclaimedBytes()).isEqualTo(2 * BYTES_PER_MEMBER);
+		assertThat(values).containsEntry("sweeper:user-tokens:cursor", "0")
+			.containsEntry("sweeper:user-tokens:page", "");
+	}
+
+	@Test
+	@DisplayName("예산이 세트 중간에서 끝나면 세트 안의 위치를 저장하고, 다음 tick 이 그 자리부터 이어서 읽는다")
+	void tick_ShouldResumeInsideSetWhenBudgetIsExhausted() {
+		// given
+		configure(2, 2);
+		index("1", "1.a", "1.b", "1.c", "1.d", "1.e");
+		index("2", "2.a");
+		records.add(SessionKeys.tokenRecord("2.a"));
+
+		// when
+		sweeper.tick();
+
+		// then
+		assertThat(sets.get(SessionKeys.userTokens("1"))).containsExactly("1.c", "1.d", "1.e");
+		assertThat(values.get("sweeper:user-tokens:page"))
+			.isEqualTo("m:1.b\n" + SessionKeys.userTokens("1") + "\n" + SessionKeys.userTokens("2"));
+
+		// when
+		sweeper.tick();
+		sweeper.tick();
+
+		// then
+		assertThat(sets.get(SessionKeys.userTokens("1"))).isEmpty();
+		assertThat(sets.get(SessionKeys.userTokens("2"))).containsExactly("2.a");
+		assertThat(sweeper.totals().prunedMembers()).isEqualTo(5);
+		assertThat(values.get("sweeper:user-tokens:page")).isEmpty();
+		assertThat(sscanSizes).allMatch(size -> size <= 2);
+		verify(async, times(1)).scan(any(ScanCursor.class), any(ScanArgs.class));
+	}
+
+	@Test
+	@DisplayName("클러스터 모드에서는 master 를 하나씩 SCAN 하고, 마지막 master 가 끝나면 커서를 처음으로 되돌린다")
+	@SuppressWarnings("unchecked")
+	void tick_InClusterMode_ShouldSweepEachMaster() {
+		// given
+		configure(200, 2000);
+		ReflectionTestUtils.setField(sweeper, "redisMode", "cluster");
+		index("1", "1.a");
+		index("2", "2.b");
+		records.add(SessionKeys.tokenRecord("2.b"));
+		when(connection.clusterGetNodes()).thenReturn(List.of(
+			node("node-b", NodeType.MASTER), node("node-a", NodeType.MASTER), node("node-c", NodeType.REPLICA)));
+		RedisClusterAsyncCommands<byte[], byte[]> nodeA = mock(RedisClusterAsyncCommands.class);
+		RedisClusterAsyncCommands<byte[], byte[]> nodeB = mock(RedisClusterAsyncCommands.class);
+		when(async.getConnection("node-a")).thenReturn(nodeA);
+		when(async.getConnection("node-b")).thenReturn(nodeB);
+		when(nodeA.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(completed(keyPage("1")));
+		when(nodeB.scan(any(ScanCursor.class), any(ScanArgs.class))).thenReturn(completed(keyPage("2")));
+
+		// when
+		sweeper.tick();
+
+		// then
+		assertThat(sets.get(SessionKeys.userTokens("1"))).isEmpty();
+		assertThat(values).containsEntry("sweeper:user-tokens:cursor", "node-b:0");
+
+		// when
+		sweeper.tick();
+
+		// then
+		assertThat(sets.get(SessionKeys.userTokens("2"))).containsExactly("2.b");
+		assertThat(values).containsEntry("sweeper:user-tokens:cursor", "0");
+		assertThat(sweeper.totals().prunedMembers()).isEqualTo(1);
+		verify(async, never()).scan(any(ScanCursor.class), any(ScanArgs.class));
+		verify(async, never()).getConnection("node-c");
+	}
+
+	private KeyScanCursor<byte[]> keyPage(String userId) {
+		KeyScanCursor<byte[]> page = new KeyScanCursor<>();
+		page.getKeys().add(raw(SessionKeys.userTokens(userId)));
+		page.setCursor("0");
+		page.setFinished(true);
+		return page;
+	}
+
+	private static RedisClusterNode node(String id, NodeType type) {
+		return RedisClusterNode.newRedisClusterNode().withId(id).promotedAs(type).build();
+	}
+
+	private void configure(int scanCount, int maxMembersPerTick) {
+		ReflectionTestUtils.setField(sweeper, "scanCount", scanCount);
+		ReflectionTestUtils.setField(sweeper, "maxMembersPerTick", maxMembersPerTick);
+	}
+
+	private void index(String userId, String... tokens) {
+		sets.put(SessionKeys.userTokens(userId), new TreeSet<>(List.of(tokens)));
+	}
+
+	private static <T> RedisFuture<T> completed(T value) {
+		CompletedFuture<T> future = new CompletedFuture<>();
+		future.complete(value);
+		return future;
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String str(byte[] value) {
+		return new String(value, StandardCharsets.UTF_8);
+	}
+
+	private static final class CompletedFuture<T> extends CompletableFuture<T> implements RedisFuture<T> {
+
+		@Override
+		public String getError() {
+			return null;
+		}
+
+		@Override
+		public boolean await(long timeout, TimeUnit unit) {
+			return true;
+		}
+	}
+}
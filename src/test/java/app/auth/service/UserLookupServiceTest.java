@@ -0,0 +1,144 @@
+package app.auth.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.response.UserSummaryResponse;
+import app.auth.model.entity.enums.UserRole;
+import app.auth.model.repository.UserRepository;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.metrics.AuthMetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private UserLookupService userLookupService;
+
+	@BeforeEach
+	void setUp() {
+		userLookupService = new UserLookupService(userRepository, objectMapper, AuthMetrics.detached());
+		ReflectionTestUtils.setField(userLookupService, "chunkSize", 2);
+		ReflectionTestUtils.setField(userLookupService, "maxLookupSize", 5);
+	}
+
+	@Test
+	@DisplayName("중복을 제거한 ID 를 chunk 단위로 조회하고, 없는 사용자는 found=false 로 내려준다")
+	void writeLookup_ShouldQueryInChunks() throws Exception {
+		// given
+		List<Collection<Long>> chunks = new ArrayList<>();
+		when(userRepository.findByUserIdIn(any())).thenAnswer(invocation -> {
+			Collection<Long> chunk = new ArrayList<>(invocation.getArgument(0));
+			chunks.add(chunk);
+			return chunk.stream().filter(userId -> userId != 4L).map(UserLookupServiceTest::user).toList();
+		});
+
+		// when
+		List<JsonNode> lines = lookup(List.of(1L, 2L, 2L, 3L, 4L));
+
+		// then
+		assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L));
+		assertThat(lines).hasSize(4);
+		assertThat(lines).filteredOn(line -> line.get("found").asBoolean())
+			.extracting(line -> line.get("userRole").asText())
+			.containsOnly("CUSTOMER");
+		assertThat(lines).filteredOn(line -> !line.get("found").asBoolean())
+			.extracting(line -> line.get("userId").asLong())
+			.containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("캐시 TTL 안에 다시 조회한 사용자는 DB 를 읽지 않는다")
+	void writeLookup_ShouldServeRepeatedIdsFromCache() throws Exception {
+		// given
+		when(userRepository.findByUserIdIn(any())).thenAnswer(invocation -> {
+			Collection<Long> chunk = invocation.getArgument(0);
+			return chunk.stream().map(UserLookupServiceTest::user).toList();
+		});
+
+		// when
+		lookup(List.of(1L, 2L));
+		List<JsonNode> lines = lookup(List.of(1L, 2L));
+
+		// then
+		assertThat(lines).hasSize(2);
+		verify(userRepository, times(1)).findByUserIdIn(any());
+	}
+
+	@Test
+	@DisplayName("캐시가 가득 차면 가장 오래 쓰이지 않은 사용자만 내보낸다")
+	void writeLookup_WhenCacheIsFull_ShouldEvictLeastRecentlyUsed() throws Exception {
+		// given
+		ReflectionTestUtils.setField(userLookupService, "cacheMaxEntries", 2);
+		List<Collection<Long>> chunks = new ArrayList<>();
+		when(userRepository.findByUserIdIn(any())).thenAnswer(invocation -> {
+			Collection<Long> chunk = new ArrayList<>(invocation.getArgument(0));
+			chunks.add(chunk);
+			return chunk.stream().map(UserLookupServiceTest::user).toList();
+		});
+		lookup(List.of(1L, 2L));
+		lookup(List.of(1L));
+
+		// when
+		lookup(List.of(3L));
+		lookup(List.of(1L));
+		lookup(List.of(2L));
+
+		// then
+		assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L), List.of(2L));
+	}
+
+	@Test
+	@DisplayName("최대 조회 수를 넘으면 스트리밍 전에 거부한다")
+	void validateLookupSize_WhenTooLarge_ShouldThrow() {
+		// given
+		List<Long> userIds = LongStream.rangeClosed(1, 6).boxed().toList();
+
+		// when & then
+		assertThatThrownBy(() -> userLookupService.validateLookupSize(userIds))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(UserErrorStatus.USER_LOOKUP_TOO_LARGE);
+	}
+
+	private List<JsonNode> lookup(List<Long> userIds) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		userLookupService.writeLookup(userIds, out);
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			lines.add(objectMapper.readTree(line));
+		}
+		return lines;
+	}
+
+	private static UserSummaryResponse user(Long userId) {
+		return new UserSummaryResponse(userId, "user" + userId, UserRole.CUSTOMER);
+	}
+}
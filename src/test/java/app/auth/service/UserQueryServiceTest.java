@@ -0,0 +1,96 @@
+package app.auth.service;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.auth.model.dto.response.UserSummaryResponse;
+import app.auth.model.entity.enums.UserRole;
+import app.auth.model.repository.UserRepository;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.KeysetPageResponse;
+import app.global.apiPayload.exception.GeneralException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserQueryServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private DataSource dataSource;
+
+	private UserQueryService userQueryService;
+
+	@BeforeEach
+	void setUp() {
+		userQueryService = new UserQueryService(userRepository, dataSource, new ObjectMapper(), 1000);
+	}
+
+	@Test
+	@DisplayName("한 건 더 읽어 다음 페이지가 있으면 커서를 돌려주고, 그 커서로 마지막 userId 이후를 읽는다")
+	void listByRole_ShouldContinueFromCursor() {
+		// given
+		when(userRepository.findByUserRoleAndUserIdGreaterThanOrderByUserIdAsc(
+			eq(UserRole.CUSTOMER), eq(0L), eq(PageRequest.ofSize(3)))).thenReturn(users(1, 2, 3));
+		when(userRepository.findByUserRoleAndUserIdGreaterThanOrderByUserIdAsc(
+			eq(UserRole.CUSTOMER), eq(2L), eq(PageRequest.ofSize(3)))).thenReturn(users(3));
+
+		// when
+		KeysetPageResponse<UserSummaryResponse> first = userQueryService.listByRole(UserRole.CUSTOMER, null, 2, false);
+		KeysetPageResponse<UserSummaryResponse> second = userQueryService.listByRole(UserRole.CUSTOMER,
+			first.getNextCursor(), 2, false);
+
+		// then
+		assertThat(first.getContent()).extracting(UserSummaryResponse::getUserId).containsExactly(1L, 2L);
+		assertThat(first.isLast()).isFalse();
+		assertThat(first.getTotalElements()).isNull();
+		assertThat(second.getContent()).extracting(UserSummaryResponse::getUserId).containsExactly(3L);
+		assertThat(second.isLast()).isTrue();
+		assertThat(second.getNextCursor()).isNull();
+		verify(userRepository, never()).countByUserRole(any());
+	}
+
+	@Test
+	@DisplayName("다른 역할에서 받은 커서나 깨진 커서는 거부한다")
+	void listByRole_WithForeignCursor_ShouldThrow() {
+		// given
+		when(userRepository.findByUserRoleAndUserIdGreaterThanOrderByUserIdAsc(any(), anyLong(), any()))
+			.thenReturn(users(1, 2));
+		String ownerCursor = userQueryService.listByRole(UserRole.OWNER, null, 1, false).getNextCursor();
+
+		// when & then
+		assertThatThrownBy(() -> userQueryService.listByRole(UserRole.CUSTOMER, ownerCursor, 1, false))
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(UserErrorStatus.INVALID_PAGE_CURSOR);
+		assertThatThrownBy(() -> userQueryService.listByRole(UserRole.CUSTOMER, "not a cursor", 1, false))
+			.isInstanceOf(GeneralException.class);
+	}
+
+	private static List<UserSummaryResponse> users(long... userIds) {
+		return LongStream.of(userIds)
+			.mapToObj(userId -> new UserSummaryResponse(userId, "user" + userId, UserRole.CUSTOMER))
+			.toList();
+	}
+}
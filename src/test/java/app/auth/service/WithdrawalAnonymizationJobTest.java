@@ -0,0 +1,130 @@
+package app.auth.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import app.auth.model.dto.response.SessionRevokeResponse;
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WithdrawalAnonymizationJobTest {
+
+	private static final String CHECKPOINT_KEY = "withdrawal:anonymization:checkpoint";
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private RefreshTokenService refreshTokenService;
+
+	private final List<String> transactions = new ArrayList<>();
+
+	private WithdrawalAnonymizationJob job;
+
+	@BeforeEach
+	void setUp() {
+		TransactionOperations transactionOperations = new TransactionOperations() {
+			@Override
+			public <T> T execute(TransactionCallback<T> action) {
+				try {
+					T result = action.doInTransaction(new SimpleTransactionStatus());
+					transactions.add("commit");
+					return result;
+				} catch (RuntimeException e) {
+					transactions.add("rollback");
+					throw e;
+				}
+			}
+		};
+		job = new WithdrawalAnonymizationJob(jdbcTemplate, transactionOperations, redisTemplate, refreshTokenService);
+		ReflectionTestUtils.setField(job, "chunkSize", 2);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("체크포인트 이후부터 chunk 단위로 익명화하고, chunk 마다 세션을 폐기한 뒤 끝나면 체크포인트를 지운다")
+	void run_ShouldResumeFromCheckpointAndRevokePerChunk() {
+		// given
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("10");
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(10L), eq(2))).thenReturn(List.of(11L, 12L));
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(12L), eq(2))).thenReturn(List.of(15L));
+		when(refreshTokenService.revokeSessionsInBulk(any()))
+			.thenReturn(SessionRevokeResponse.builder().unlinkedKeys(3).build());
+
+		// when
+		WithdrawalAnonymizationJob.AnonymizationReport report = job.run();
+
+		// then
+		assertThat(report.resumedFrom()).isEqualTo(10L);
+		assertThat(report.chunks()).isEqualTo(2);
+		assertThat(report.anonymizedUsers()).isEqualTo(3);
+		assertThat(report.revokedKeys()).isEqualTo(6);
+		assertThat(report.completed()).isTrue();
+		verify(refreshTokenService).revokeSessionsInBulk(List.of("11", "12"));
+		verify(refreshTokenService).revokeSessionsInBulk(List.of("15"));
+		verify(valueOperations).set(CHECKPOINT_KEY, "12");
+		verify(redisTemplate).delete(CHECKPOINT_KEY);
+		assertThat(transactions).containsExactly("commit", "commit");
+	}
+
+	@Test
+	@DisplayName("세션 폐기가 실패하면 그 chunk 의 익명화를 롤백하고 체크포인트를 옮기지 않는다")
+	void run_WhenRevokeFails_ShouldRollBackChunk() {
+		// given
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(0L), eq(2))).thenReturn(List.of(1L, 2L));
+		when(refreshTokenService.revokeSessionsInBulk(any())).thenThrow(new IllegalStateException("redis down"));
+
+		// when & then
+		assertThatThrownBy(() -> job.run()).isInstanceOf(IllegalStateException.class);
+		assertThat(transactions).containsExactly("rollback");
+		verify(valueOperations, never()).set(anyString(), anyString());
+		verify(redisTemplate, never()).delete(CHECKPOINT_KEY);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 락을 잡고 있으면 익명화를 시작하지 않는다")
+	void run_ShouldRejectWhenLockIsHeld() {
+		// given
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> job.run())
+			.isInstanceOf(GeneralException.class)
+			.extracting("code")
+			.isEqualTo(UserErrorStatus.WITHDRAWAL_ANONYMIZATION_IN_PROGRESS);
+		verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any(), any());
+	}
+}
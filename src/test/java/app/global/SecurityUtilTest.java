@@ -0,0 +1,86 @@
+package app.global;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import app.auth.model.entity.User;
+import app.auth.model.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityUtilTest {
+
+	@InjectMocks
+	private SecurityUtil securityUtil;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@BeforeEach
+	void setUp() {
+		Jwt jwt = Jwt.withTokenValue("token")
+			.header("alg", "RS256")
+			.subject("42")
+			.claim("user_role", "CUSTOMER")
+			.issuedAt(Instant.now())
+			.expiresAt(Instant.now().plusSeconds(300))
+			.build();
+		SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("현재 사용자 ID 와 역할은 토큰 클레임에서 읽고 DB 를 조회하지 않는다")
+	void getCurrentPrincipal_ShouldUseClaims() {
+		// when
+		UserPrincipal principal = securityUtil.getCurrentPrincipal();
+
+		// then
+		assertThat(principal.getUserId()).isEqualTo(42L);
+		assertThat(principal.getRole()).isEqualTo("CUSTOMER");
+		assertThat(securityUtil.getCurrentPrincipal()).isSameAs(principal);
+		verify(userRepository, never()).findById(42L);
+	}
+
+	@Test
+	@DisplayName("User 는 요청 안에서 한 번만 읽는다")
+	void getCurrentUser_ShouldLoadOncePerRequest() {
+		// given
+		when(userRepository.findById(42L)).thenReturn(Optional.of(mock(User.class)));
+
+		// when
+		User first = securityUtil.getCurrentUser();
+		User second = securityUtil.getCurrentUser();
+
+		// then
+		assertThat(second).isSameAs(first);
+		verify(userRepository, times(1)).findById(42L);
+	}
+}
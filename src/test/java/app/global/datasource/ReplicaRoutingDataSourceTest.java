@@ -0,0 +1,133 @@
+package app.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primary;
+
+	@Mock
+	private HikariDataSource replica;
+
+	@Mock
+	private Connection primaryConnection;
+
+	@Mock
+	private Connection replicaConnection;
+
+	@Mock
+	private Statement statement;
+
+	@Mock
+	private ResultSet resultSet;
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		when(replica.getPoolName()).thenReturn("replica-1");
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		when(replicaConnection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery(anyString())).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true);
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5), registry);
+	}
+
+	@Test
+	@DisplayName("첫 상태 확인 전에는 primary 로, 지연이 max-lag 이하로 확인되면 replica 로 보낸다")
+	void getConnection_ShouldRouteToHealthyReplica() throws SQLException {
+		// given
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		when(resultSet.getLong(1)).thenReturn(200L);
+
+		// when & then
+		assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+		routingDataSource.checkHealth();
+		assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+		assertThat(registry.get("auth.datasource.replica.lag").tag("target", "replica-1").gauge().value())
+			.isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("지연이 max-lag 를 넘으면 replica 를 제외하고 primary 로 보낸다")
+	void getConnection_WhenReplicaLags_ShouldFallBackToPrimary() throws SQLException {
+		// given
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		when(resultSet.getLong(1)).thenReturn(200L, 60_000L);
+
+		// when
+		routingDataSource.checkHealth();
+		routingDataSource.checkHealth();
+
+		// then
+		assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+		assertThat(registry.get("auth.datasource.replica.healthy").gauge().value()).isZero();
+		assertThat(registry.get("auth.datasource.read.route").tag("target", "primary").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("WAL receiver 가 primary 와 끊겨 지연을 알 수 없으면 replica 를 제외한다")
+	void checkHealth_WhenWalReceiverDisconnected_ShouldExcludeReplica() throws SQLException {
+		// given
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		when(resultSet.getLong(1)).thenReturn(0L);
+		when(resultSet.wasNull()).thenReturn(false, true);
+		routingDataSource.checkHealth();
+
+		// when
+		routingDataSource.checkHealth();
+
+		// then
+		assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+		assertThat(registry.get("auth.datasource.replica.healthy").gauge().value()).isZero();
+		assertThat(registry.get("auth.datasource.replica.lag").gauge().value()).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("replica 연결에 실패하면 같은 요청을 primary 로 넘기고 다음 확인까지 replica 를 제외한다")
+	void getConnection_WhenReplicaFails_ShouldFallBackToPrimary() throws SQLException {
+		// given
+		when(replica.getConnection()).thenReturn(replicaConnection)
+			.thenThrow(new SQLTransientConnectionException("replica-1 - Connection is not available"));
+		when(resultSet.getLong(1)).thenReturn(0L);
+		routingDataSource.checkHealth();
+
+		// when
+		Connection connection = routingDataSource.getConnection();
+
+		// then
+		assertThat(connection).isSameAs(primaryConnection);
+		assertThat(registry.get("auth.datasource.replica.healthy").gauge().value()).isZero();
+	}
+}
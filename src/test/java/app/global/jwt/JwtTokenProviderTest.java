@@ -45,6 +45,7 @@ class JwtTokenProviderTest {
 		KeyPair keyPair = keyPairGenerator.generateKeyPair();
 		testKeyEntry = new KeyEntry(testKid, keyPair);
 
+		ReflectionTestUtils.setField(localTokenProvider, "issuer", "https://auth.test");
 		ReflectionTestUtils.setField(localTokenProvider, "accessTokenValidityMs", 3600000L); // 1시간
 		ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidityMs", 86400000L); // 24시간
 		ReflectionTestUtils.setField(jwtTokenProvider, "internalTokenValidityMs", 60000L); // 1분
@@ -69,6 +70,9 @@ class JwtTokenProviderTest {
 		Claims claims = jwtTokenProvider.parseClaims(token);
 		assertThat(claims.getSubject()).isEqualTo(userId);
 		assertThat(claims.get("user_role")).isEqualTo(role);
+		assertThat(claims.getId()).isNotBlank();
+		assertThat(claims.getIssuer()).isEqualTo("https://auth.test");
+		assertThat(claims.get("token_use")).isEqualTo("access");
 	}
 
 	@Test
@@ -0,0 +1,171 @@
+package app.global.jwt;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.auth.service.AccessTokenRevocationService;
+import app.auth.service.JwtKeyManager;
+import io.jsonwebtoken.Jwts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KeyringJwtDecoderTest {
+
+	private static final String ISSUER = "https://auth.test";
+	private static final String CLIENT_ID = "order-service";
+
+	private JwtKeyManager jwtKeyManager;
+	private LocalTokenProvider localTokenProvider;
+	private JwtTokenProvider jwtTokenProvider;
+	private KeyringJwtDecoder decoder;
+
+	@BeforeEach
+	void setUp() {
+		jwtKeyManager = new JwtKeyManager(false, "", Optional.empty());
+		jwtKeyManager.init();
+		localTokenProvider = new LocalTokenProvider(jwtKeyManager);
+		ReflectionTestUtils.setField(localTokenProvider, "issuer", ISSUER);
+		ReflectionTestUtils.setField(localTokenProvider, "accessTokenValidityMs", 3600000L);
+		ReflectionTestUtils.setField(localTokenProvider, "refreshTokenValidityMs", 604800000L);
+		jwtTokenProvider = new JwtTokenProvider(jwtKeyManager);
+		ReflectionTestUtils.setField(jwtTokenProvider, "issuer", ISSUER);
+		ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidityMs", 604800000L);
+		ReflectionTestUtils.setField(jwtTokenProvider, "internalTokenValidityMs", 600000L);
+		decoder = new KeyringJwtDecoder(jwtKeyManager, KeyringJwtDecoder.accessTokenValidator(ISSUER), null);
+	}
+
+	@Test
+	@DisplayName("키링의 키로 서명된 토큰을 검증하고 user_role 을 ROLE_ 권한으로 바꾼다")
+	void decode_ShouldVerifyWithKeyringAndMapUserRole() {
+		// given
+		String token = localTokenProvider.createAccessToken("42", "MASTER");
+		RoleAuthoritiesConverter converter = new RoleAuthoritiesConverter();
+
+		// when
+		Jwt jwt = decoder.decode(token);
+		Collection<GrantedAuthority> authorities = converter.convert(jwt);
+
+		// then
+		assertThat(jwt.getSubject()).isEqualTo("42");
+		assertThat(jwt.getExpiresAt()).isNotNull();
+		assertThat(authorities).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_MASTER");
+		assertThat(converter.convert(decoder.decode(token))).isSameAs(authorities);
+	}
+
+	@Test
+	@DisplayName("키가 교체된 뒤에도 키링에 남은 이전 kid 의 토큰은 검증된다")
+	void decode_ShouldAcceptTokensSignedBeforeRotation() {
+		// given
+		String before = localTokenProvider.createAccessToken("1", "CUSTOMER");
+		jwtKeyManager.rotateKey();
+		String after = localTokenProvider.createAccessToken("2", "CUSTOMER");
+
+		// when & then
+		assertThat(decoder.decode(before).getSubject()).isEqualTo("1");
+		assertThat(decoder.decode(after).getSubject()).isEqualTo("2");
+	}
+
+	@Test
+	@DisplayName("서명이 유효해도 jti 가 폐기된 토큰은 거부한다")
+	void decode_ShouldRejectRevokedJti() {
+		// given
+		String revoked = localTokenProvider.createAccessToken("42", "CUSTOMER");
+		String active = localTokenProvider.createAccessToken("42", "CUSTOMER");
+		Jwt revokedJwt = decoder.decode(revoked);
+		AccessTokenRevocationService revocationService = mock(AccessTokenRevocationService.class);
+		when(revocationService.isRevoked(revokedJwt.getId(), revokedJwt.getExpiresAt())).thenReturn(true);
+		KeyringJwtDecoder revocationAwareDecoder = new KeyringJwtDecoder(jwtKeyManager,
+			KeyringJwtDecoder.accessTokenValidator(ISSUER), revocationService);
+
+		// when & then
+		assertThatThrownBy(() -> revocationAwareDecoder.decode(revoked))
+			.isInstanceOf(BadJwtException.class)
+			.hasMessageContaining("revoked");
+		assertThat(revocationAwareDecoder.decode(active).getSubject()).isEqualTo("42");
+	}
+
+	@Test
+	@DisplayName("키링에 없는 키로 서명된 토큰은 거부한다")
+	void decode_ShouldRejectForeignKey() throws Exception {
+		// given
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair foreign = generator.generateKeyPair();
+		String forged = Jwts.builder()
+			.subject("42")
+			.claim("user_role", "MASTER")
+			.header().keyId(jwtKeyManager.getActiveKid()).and()
+			.signWith(foreign.getPrivate(), Jwts.SIG.RS256)
+			.compact();
+
+		// when & then
+		assertThatThrownBy(() -> decoder.decode(forged)).isInstanceOf(BadJwtException.class);
+	}
+
+	@Test
+	@DisplayName("같은 키링으로 서명된 내부 토큰은 user_role 이 MASTER 여도 사용자 체인에서 거부한다")
+	void decode_ShouldRejectInternalToken() {
+		// given
+		String internal = jwtTokenProvider.createInternalToken(CLIENT_ID, "42", "MASTER");
+		KeyringJwtDecoder internalDecoder = new KeyringJwtDecoder(jwtKeyManager,
+			KeyringJwtDecoder.internalTokenValidator(ISSUER, CLIENT_ID::equals), null);
+
+		// when & then
+		assertThatThrownBy(() -> decoder.decode(internal)).isInstanceOf(JwtValidationException.class);
+		assertThat(internalDecoder.decode(internal).getClaimAsString("user_id")).isEqualTo("42");
+	}
+
+	@Test
+	@DisplayName("같은 키링으로 서명된 리프레시 토큰은 액세스 토큰으로 받지 않는다")
+	void decode_ShouldRejectRefreshToken() {
+		// given
+		String refresh = jwtTokenProvider.createRefreshToken();
+		String localRefresh = localTokenProvider.createRefreshToken();
+		KeyringJwtDecoder internalDecoder = new KeyringJwtDecoder(jwtKeyManager,
+			KeyringJwtDecoder.internalTokenValidator(ISSUER, CLIENT_ID::equals), null);
+
+		// when & then
+		assertThatThrownBy(() -> decoder.decode(refresh)).isInstanceOf(JwtValidationException.class);
+		assertThatThrownBy(() -> decoder.decode(localRefresh)).isInstanceOf(JwtValidationException.class);
+		assertThatThrownBy(() -> internalDecoder.decode(refresh)).isInstanceOf(JwtValidationException.class);
+	}
+
+	@Test
+	@DisplayName("다른 발급자의 액세스 토큰은 거부한다")
+	void decode_ShouldRejectForeignIssuer() {
+		// given
+		ReflectionTestUtils.setField(localTokenProvider, "issuer", "https://other.test");
+		String token = localTokenProvider.createAccessToken("42", "CUSTOMER");
+
+		// when & then
+		assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+	}
+
+	@Test
+	@DisplayName("내부 체인은 client_id 가 없거나 등록되지 않은 서비스의 내부 토큰을 거부한다")
+	void decode_ShouldRejectInternalTokenWithoutRegisteredClient() {
+		// given
+		String anonymous = jwtTokenProvider.createInternalToken(null, "42", "MASTER");
+		String unregistered = jwtTokenProvider.createInternalToken("unknown-service", "42", "MASTER");
+		KeyringJwtDecoder internalDecoder = new KeyringJwtDecoder(jwtKeyManager,
+			KeyringJwtDecoder.internalTokenValidator(ISSUER, CLIENT_ID::equals), null);
+
+		// when & then
+		assertThatThrownBy(() -> internalDecoder.decode(anonymous)).isInstanceOf(JwtValidationException.class);
+		assertThatThrownBy(() -> internalDecoder.decode(unregistered)).isInstanceOf(JwtValidationException.class);
+	}
+}
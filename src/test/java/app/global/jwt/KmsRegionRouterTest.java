@@ -0,0 +1,179 @@
+package app.global.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jwt.SignedJWT;
+
+import app.auth.service.JwtKeyManager;
+import app.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kms.KmsClient;
+import software.amazon.awssdk.services.kms.model.GetPublicKeyRequest;
+import software.amazon.awssdk.services.kms.model.GetPublicKeyResponse;
+import software.amazon.awssdk.services.kms.model.KmsException;
+import software.amazon.awssdk.services.kms.model.SignRequest;
+import software.amazon.awssdk.services.kms.model.SignResponse;
+import software.amazon.awssdk.services.kms.model.SigningAlgorithmSpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KmsRegionRouterTest {
+
+	private static final byte[] SHA256_DIGEST_INFO = HexFormat.of().parseHex("3031300d060960864801650304020105000420");
+	private static final String PRIMARY_KID = "arn:aws:kms:ap-northeast-2:000000000000:key/mrk-test";
+	private static final String REPLICA_KID = "arn:aws:kms:ap-northeast-1:000000000000:key/mrk-test";
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final KmsClient primaryKms = mock(KmsClient.class);
+	private final KmsClient replicaKms = mock(KmsClient.class);
+	private KmsRegionRouter router;
+	private JwtKeyManager jwtKeyManager;
+	private KmsTokenProvider kmsTokenProvider;
+
+	@BeforeEach
+	void setUp() throws GeneralSecurityException {
+		// multi-region replica 는 키 재료가 같다.
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		stubRegion(primaryKms, PRIMARY_KID, keyPair);
+		stubRegion(replicaKms, REPLICA_KID, keyPair);
+
+		router = new KmsRegionRouter(List.of(region("ap-northeast-2", primaryKms), region("ap-northeast-1", replicaKms)),
+			0.2, Duration.ofSeconds(30), registry);
+		jwtKeyManager = new JwtKeyManager(true, "mrk-test", Optional.of(router));
+		jwtKeyManager.init();
+
+		kmsTokenProvider = new KmsTokenProvider(router);
+		ReflectionTestUtils.setField(kmsTokenProvider, "issuer", "https://auth.test");
+		ReflectionTestUtils.setField(kmsTokenProvider, "accessValiditySec", 900L);
+	}
+
+	@Test
+	@DisplayName("모든 리전의 키를 JWKS 에 싣고, 측정 전에는 첫 번째 리전으로 서명한다")
+	void createAccessToken_ShouldSignWithPrimaryAndPublishEveryRegion() throws Exception {
+		// when
+		String token = kmsTokenProvider.createAccessToken("42", "CUSTOMER");
+
+		// then
+		assertThat(jwtKeyManager.getActiveKid()).isEqualTo(PRIMARY_KID);
+		assertThat(SignedJWT.parse(token).getHeader().getKeyID()).isEqualTo(PRIMARY_KID);
+		assertThat(jwtKeyManager.getJwks().get("keys")).extracting(key -> key.get("kid"))
+			.containsExactly(PRIMARY_KID, REPLICA_KID);
+		verify(replicaKms, never()).sign(any(SignRequest.class));
+	}
+
+	@Test
+	@DisplayName("스로틀링되면 다음 리전의 kid 로 다시 서명하고, cooldown 동안 실패한 리전을 건너뛴다")
+	void createAccessToken_ShouldFailOverOnThrottling() throws Exception {
+		// given
+		doThrow(KmsException.builder()
+			.awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+			.statusCode(400)
+			.message("Rate exceeded")
+			.build()).when(primaryKms).sign(any(SignRequest.class));
+		KeyringJwtDecoder decoder = new KeyringJwtDecoder(jwtKeyManager);
+
+		// when
+		String first = kmsTokenProvider.createAccessToken("42", "CUSTOMER");
+		String second = kmsTokenProvider.createAccessToken("43", "CUSTOMER");
+
+		// then
+		Jwt jwt = decoder.decode(first);
+		assertThat(jwt.getHeaders().get("kid")).isEqualTo(REPLICA_KID);
+		assertThat(SignedJWT.parse(second).getHeader().getKeyID()).isEqualTo(REPLICA_KID);
+		verify(primaryKms, times(1)).sign(any(SignRequest.class));
+		assertThat(registry.get("auth.kms.region.failure")
+			.tags("region", "ap-northeast-2", "reason", "ThrottlingException").counter().count()).isEqualTo(1);
+		assertThat(registry.get("auth.kms.region.available").tag("region", "ap-northeast-2").gauge().value())
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("최근 지연의 EWMA 가 낮은 리전을 고른다")
+	void call_ShouldPreferRegionWithLowestLatency() {
+		// given
+		KmsRegionRouter.Region primary = router.regions().get(0);
+		KmsRegionRouter.Region replica = router.regions().get(1);
+		router.callIn(primary, region -> {
+			sleep(Duration.ofMillis(30));
+			return null;
+		});
+		router.callIn(replica, region -> null);
+
+		// when
+		String selected = router.call(KmsRegionRouter.Region::name);
+
+		// then
+		assertThat(selected).isEqualTo("ap-northeast-1");
+		assertThat(registry.get("auth.kms.region.latency").tag("region", "ap-northeast-2").gauge().value())
+			.isGreaterThan(registry.get("auth.kms.region.latency").tag("region", "ap-northeast-1").gauge().value());
+	}
+
+	@Test
+	@DisplayName("KMS 가 아닌 곳에서 난 예외는 다른 리전으로 넘기지 않는다")
+	void call_ShouldNotFailOverOnNonKmsError() {
+		// given
+		List<String> attempted = new ArrayList<>();
+
+		// when & then
+		assertThatThrownBy(() -> router.call(region -> {
+			attempted.add(region.name());
+			throw new IllegalArgumentException("bad claims");
+		})).isInstanceOf(IllegalArgumentException.class);
+		assertThat(attempted).containsExactly("ap-northeast-2");
+	}
+
+	private KmsRegionRouter.Region region(String name, KmsClient kms) {
+		return new KmsRegionRouter.Region(name, "mrk-test", kms,
+			new KmsRsaSigner(kms, "mrk-test", SigningAlgorithmSpec.RSASSA_PKCS1_V1_5_SHA_256, AuthMetrics.detached(),
+				name));
+	}
+
+	private static void stubRegion(KmsClient kms, String kid, KeyPair keyPair) {
+		when(kms.getPublicKey(any(GetPublicKeyRequest.class))).thenReturn(GetPublicKeyResponse.builder()
+			.keyId(kid)
+			.publicKey(SdkBytes.fromByteArray(keyPair.getPublic().getEncoded()))
+			.build());
+		when(kms.sign(any(SignRequest.class))).thenAnswer(invocation -> {
+			byte[] digest = invocation.<SignRequest>getArgument(0).message().asByteArray();
+			Signature signature = Signature.getInstance("NONEwithRSA");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(SHA256_DIGEST_INFO);
+			signature.update(digest);
+			return SignResponse.builder().keyId(kid).signature(SdkBytes.fromByteArray(signature.sign())).build();
+		});
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package app.global.jwt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationFilterTest {
+
+	private static final long EXP = 1_800_000_000L;
+
+	@Test
+	@DisplayName("폐기된 jti 는 같은 버킷에서 항상 발견되고, 버킷 구간이 지나면 버려진다")
+	void addAndExpire() {
+		// given
+		RevocationFilter filter = new RevocationFilter(Duration.ofMinutes(5), 1000, 0.001);
+		String jti = UUID.randomUUID().toString();
+
+		// when
+		filter.add(jti, EXP);
+
+		// then
+		assertThat(filter.mightContain(jti, EXP)).isTrue();
+		assertThat(filter.mightContain(jti, EXP + Duration.ofHours(1).toSeconds())).isFalse();
+
+		filter.expire(EXP + Duration.ofMinutes(10).toSeconds());
+		assertThat(filter.mightContain(jti, EXP)).isFalse();
+		assertThat(filter.bucketCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("오탐률은 설정값 근처에 머문다")
+	void falsePositiveRate() {
+		// given
+		RevocationFilter filter = new RevocationFilter(Duration.ofMinutes(5), 1000, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.add(UUID.randomUUID().toString(), EXP);
+		}
+
+		// when
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain(UUID.randomUUID().toString(), EXP)) {
+				falsePositives++;
+			}
+		}
+
+		// then
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	@DisplayName("스냅샷을 읽어 들인 필터는 원본과 같은 결과를 낸다")
+	void snapshotRoundTrip() throws IOException {
+		// given
+		RevocationFilter filter = new RevocationFilter(Duration.ofMinutes(5), 1000, 0.001);
+		String jti = UUID.randomUUID().toString();
+		filter.add(jti, EXP);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		filter.writeTo(new DataOutputStream(bytes), "1700000000000-0");
+
+		// when
+		RevocationFilter.Snapshot snapshot =
+			RevocationFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		// then
+		assertThat(snapshot.version()).isEqualTo("1700000000000-0");
+		assertThat(snapshot.filter().mightContain(jti, EXP)).isTrue();
+		assertThat(snapshot.filter().bucketCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,113 @@
+package app.global.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredAsyncAppenderTest {
+
+	private final LoggerContext context = new LoggerContext();
+	private final Logger logger = context.getLogger("app.auth.service.AuthService");
+	private final GatedAppender sink = new GatedAppender();
+	private final MeteredAsyncAppender appender = new MeteredAsyncAppender();
+
+	@BeforeEach
+	void setUp() {
+		sink.setContext(context);
+		sink.start();
+
+		appender.setContext(context);
+		appender.setName("ASYNC_TEST");
+		appender.setQueueSize(10);
+		appender.setDiscardingThreshold(5);
+		appender.setMaxFlushTime(5000);
+		appender.addAppender(sink);
+	}
+
+	@AfterEach
+	void tearDown() {
+		sink.gate.countDown();
+		appender.stop();
+	}
+
+	@Test
+	@DisplayName("큐가 임계치 아래로 차면 INFO 이하만 버리고 WARN 이상은 모두 전달하며, 종료 시 남은 이벤트를 내보낸다")
+	void append_ShouldDropOnlyDiscardableLevels() throws InterruptedException {
+		// given
+		appender.start();
+		appender.doAppend(event(Level.WARN));
+		assertThat(sink.received.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		for (int i = 0; i < 20; i++) {
+			appender.doAppend(event(Level.INFO));
+		}
+		for (int i = 0; i < 3; i++) {
+			appender.doAppend(event(Level.ERROR));
+		}
+		sink.gate.countDown();
+		appender.stop();
+
+		// then
+		assertThat(appender.getDroppedCount()).isEqualTo(14);
+		assertThat(sink.events).hasSize(10);
+		assertThat(sink.events.stream().filter(e -> e.getLevel().isGreaterOrEqual(Level.WARN))).hasSize(4);
+		assertThat(MeteredAsyncAppender.running("ASYNC_TEST")).isNull();
+	}
+
+	@Test
+	@DisplayName("discardLevel 을 WARN 이상으로 설정해도 WARN 이상은 버리지 않는다")
+	void setDiscardLevel_ShouldNeverDiscardWarn() {
+		// given
+		appender.setDiscardLevel("ERROR");
+		appender.setNeverBlock(true);
+		appender.start();
+
+		// when & then
+		assertThat(appender.isNeverBlock()).isFalse();
+		assertThat(appender.isDiscardable(event(Level.WARN))).isFalse();
+		assertThat(appender.isDiscardable(event(Level.INFO))).isTrue();
+		assertThat(MeteredAsyncAppender.running("ASYNC_TEST")).isSameAs(appender);
+	}
+
+	private ILoggingEvent event(Level level) {
+		return new LoggingEvent(getClass().getName(), logger, level, "로그인 성공 - userId: {}", null,
+			new Object[] {"user"});
+	}
+
+	/**
+	 * 첫 이벤트를 받은 뒤 gate 가 열릴 때까지 멈춰 있어 워커 스레드를 붙잡아 둔다.
+	 */
+	private static class GatedAppender extends AppenderBase<ILoggingEvent> {
+
+		private final CountDownLatch received = new CountDownLatch(1);
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			events.add(event);
+			received.countDown();
+			try {
+				gate.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package app.global.metrics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.auth.status.UserErrorStatus;
+import app.global.apiPayload.exception.GeneralException;
+import app.global.jfr.LoginStageEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthMetricsTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AuthMetrics authMetrics = new AuthMetrics(registry);
+
+	@Test
+	@DisplayName("정상 반환, 비즈니스 실패, 그 밖의 예외는 각각 success, failure, error outcome 으로 기록된다")
+	void record_ShouldTagOutcome() {
+		// when
+		authMetrics.record("auth.login.stage", () -> "ok", "stage", "user_lookup");
+		assertThatThrownBy(() -> authMetrics.record("auth.login.stage", () -> {
+			throw new GeneralException(UserErrorStatus.INVALID_PASSWORD);
+		}, "stage", "user_lookup")).isInstanceOf(GeneralException.class);
+		assertThatThrownBy(() -> authMetrics.record("auth.login.stage", () -> {
+			throw new IllegalStateException("redis down");
+		}, "stage", "user_lookup")).isInstanceOf(IllegalStateException.class);
+
+		// then
+		for (String outcome : new String[] {AuthMetrics.SUCCESS, AuthMetrics.FAILURE, AuthMetrics.ERROR}) {
+			assertThat(registry.get("auth.login.stage")
+				.tags("stage", "user_lookup", "outcome", outcome)
+				.timer()
+				.count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	@DisplayName("같은 이름과 태그 조합은 한 번 등록한 Timer 에 계속 누적된다")
+	void record_ShouldReuseTimerPerTagSet() {
+		// when
+		authMetrics.record("auth.login.stage", () -> "ok", "stage", "user_lookup");
+		authMetrics.record("auth.login.stage", () -> "ok", "stage", "user_lookup");
+		authMetrics.record("auth.login.stage", () -> "ok", "stage", "redis_write");
+
+		// then
+		assertThat(registry.get("auth.login.stage").timers()).hasSize(2);
+		assertThat(registry.get("auth.login.stage")
+			.tags("stage", "user_lookup", "outcome", AuthMetrics.SUCCESS)
+			.timer()
+			.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("recordWithOutcome 은 반환값으로 outcome 을 정한다")
+	void recordWithOutcome_ShouldClassifyResult() {
+		// when
+		authMetrics.recordWithOutcome("auth.login.stage", matches -> matches ? AuthMetrics.SUCCESS : AuthMetrics.FAILURE,
+			() -> false, "stage", "password_match");
+
+		// then
+		assertThat(registry.get("auth.login.stage")
+			.tags("stage", "password_match", "outcome", AuthMetrics.FAILURE)
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("레코딩에서 이벤트를 켜면 계측 구간이 JFR 이벤트로도 남는다")
+	void record_ShouldEmitJfrEventWhenEnabled() throws Exception {
+		// given
+		Path file = Files.createTempFile("auth-metrics-", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(LoginStageEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			// when
+			authMetrics.record(AuthMetrics.LOGIN_STAGE, () -> "ok", "stage", "user_lookup");
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		// then
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+			.filter(event -> event.getEventType().getName().equals("app.auth.LoginStage"))
+			.toList();
+		Files.deleteIfExists(file);
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("tags")).isEqualTo("stage=user_lookup");
+		assertThat(events.get(0).getString("outcome")).isEqualTo(AuthMetrics.SUCCESS);
+	}
+}
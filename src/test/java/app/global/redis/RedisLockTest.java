@@ -0,0 +1,72 @@
+package app.global.redis;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLockTest {
+
+	private static final String KEY = "lock:test";
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final Map<String, String> values = new HashMap<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+			.thenAnswer(invocation -> values.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenAnswer(invocation -> {
+			String key = invocation.<List<String>>getArgument(1).get(0);
+			String owner = invocation.getArgument(2);
+			return Objects.equals(values.get(key), owner) && values.remove(key) != null ? 1L : 0L;
+		});
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 잡은 락은 얻지 못하고, 소유자가 아닌 인스턴스의 해제는 락을 지우지 않는다")
+	void tryAcquire_ShouldExcludeOtherOwners() {
+		// given
+		RedisLock first = new RedisLock(redisTemplate, KEY);
+		RedisLock second = new RedisLock(redisTemplate, KEY);
+
+		// when
+		boolean firstAcquired = first.tryAcquire(Duration.ofSeconds(30));
+		boolean secondAcquired = second.tryAcquire(Duration.ofSeconds(30));
+		second.release();
+		boolean secondAfterOwnRelease = second.tryAcquire(Duration.ofSeconds(30));
+		first.release();
+		boolean secondAfterOwnerRelease = second.tryAcquire(Duration.ofSeconds(30));
+
+		// then
+		assertThat(firstAcquired).isTrue();
+		assertThat(secondAcquired).isFalse();
+		assertThat(secondAfterOwnRelease).isFalse();
+		assertThat(secondAfterOwnerRelease).isTrue();
+	}
+}
@@ -0,0 +1,70 @@
+package app.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PiiMaskerTest {
+
+	@AfterEach
+	void tearDown() {
+		PiiMasker.configure(null, null, 0);
+	}
+
+	@Test
+	@DisplayName("dev 프로필에서는 이메일, 전화번호, 일반 문자열의 앞뒤만 남긴다")
+	void mask_ShouldMaskForDev() {
+		// given
+		PiiMasker.configure("dev", null, 16);
+
+		// when & then
+		assertThat(PiiMasker.mask("user@example.com")).isEqualTo("u***@example.com");
+		assertThat(PiiMasker.mask("010-1234-5678")).isEqualTo("010-1234-****");
+		assertThat(PiiMasker.mask("username")).isEqualTo("u******e");
+		assertThat(PiiMasker.mask("ab")).isEqualTo("**");
+	}
+
+	@Test
+	@DisplayName("prod 프로필에서는 salt 를 키로 한 HMAC-SHA256 을 Base64 로 남기고, memo 여부와 관계없이 결과가 같다")
+	void mask_ShouldHmacForProd() throws Exception {
+		// given
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec("pepper".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		String expected = Base64.getEncoder().encodeToString(mac.doFinal("username".getBytes(StandardCharsets.UTF_8)));
+
+		// when & then
+		PiiMasker.configure("prod", "pepper", 0);
+		assertThat(PiiMasker.mask("username")).isEqualTo(expected);
+
+		PiiMasker.configure("prod", "pepper", 4);
+		assertThat(PiiMasker.mask("username")).isEqualTo(expected);
+		assertThat(PiiMasker.mask("username")).isEqualTo(expected);
+
+		PiiMasker.configure("prod", "default_salt_for_dev", 4);
+		assertThat(PiiMasker.mask("username")).isEqualTo("SALT_NOT_CONFIGURED");
+	}
+
+	@Test
+	@DisplayName("lazy 인자는 toString 시점의 설정으로 마스킹한다")
+	void lazy_ShouldMaskOnToString() {
+		// given
+		PiiMasker.configure("dev", null, 0);
+		Object argument = PiiMasker.lazy("username");
+
+		// when
+		PiiMasker.configure("prod", "pepper", 0);
+
+		// then
+		assertThat(argument.toString()).isEqualTo(PiiMasker.mask("username"));
+		assertThat(argument.toString()).doesNotContain("username");
+		assertThat(PiiMasker.lazy(null).toString()).isEqualTo("null");
+	}
+}
@@ -0,0 +1,64 @@
+package app.global.warmup;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.global.metrics.AuthMetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupWarmupTest {
+
+	@Test
+	@DisplayName("단계는 병렬로 실행되고, 실패하거나 budget 을 넘긴 단계는 기동을 막지 않고 결과에서 빠진다")
+	void run_ShouldRunStepsInParallelWithinBudget() {
+		// given
+		StartupWarmup warmup = new StartupWarmup(null, null, null, null, null, null, null, AuthMetrics.detached());
+		ReflectionTestUtils.setField(warmup, "budget", Duration.ofMillis(500));
+		CountDownLatch bothStarted = new CountDownLatch(2);
+
+		Map<String, Runnable> steps = new LinkedHashMap<>();
+		steps.put("first", () -> awaitOther(bothStarted));
+		steps.put("second", () -> awaitOther(bothStarted));
+		steps.put("failing", () -> {
+			throw new IllegalStateException("unavailable");
+		});
+		steps.put("stuck", () -> sleep(Duration.ofSeconds(5)));
+
+		// when
+		long started = System.nanoTime();
+		Map<String, Duration> durations = warmup.run(steps);
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+		// then
+		assertThat(durations).containsOnlyKeys("first", "second");
+		assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+	}
+
+	private static void awaitOther(CountDownLatch latch) {
+		latch.countDown();
+		try {
+			if (!latch.await(2, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("steps did not run in parallel");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}